@@ -0,0 +1,88 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.AsyncFileInputStream;
+import com.bondarenko.io.AsyncFileOutputStream;
+import com.bondarenko.io.BufferedOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncFileStreamBenchmark {
+    private static final int PAYLOAD_SIZE = 4 << 20;
+    private static final int BUFFER_CAPACITY = 64 * 1024;
+
+    @Param({"1", "16"})
+    private int queueDepth;
+
+    private byte[] payload;
+    private Path file;
+    private Path readFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        payload = Payloads.randomBytes(PAYLOAD_SIZE);
+        file = Payloads.createEmptyFile();
+        readFile = Payloads.createFile(payload);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(readFile);
+    }
+
+    @Benchmark
+    public void blockingWrite() throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file.toFile()), BUFFER_CAPACITY)) {
+            writeChunks(outputStream);
+        }
+    }
+
+    @Benchmark
+    public void asyncStreamWrite() throws IOException {
+        try (OutputStream outputStream = new AsyncFileOutputStream(file, BUFFER_CAPACITY, queueDepth)) {
+            writeChunks(outputStream);
+        }
+    }
+
+    @Benchmark
+    public void writeAsync() throws IOException {
+        try (AsyncFileOutputStream outputStream = new AsyncFileOutputStream(file, BUFFER_CAPACITY, queueDepth)) {
+            for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+                outputStream.writeAsync(payload, offset, Payloads.CHUNK_SIZE);
+            }
+            outputStream.flushAsync().join();
+        }
+    }
+
+    @Benchmark
+    public int readAsync() throws IOException {
+        byte[] target = new byte[PAYLOAD_SIZE];
+        try (AsyncFileInputStream inputStream = new AsyncFileInputStream(readFile, BUFFER_CAPACITY)) {
+            CompletableFuture<?>[] reads = new CompletableFuture[PAYLOAD_SIZE / BUFFER_CAPACITY];
+            for (int i = 0; i < reads.length; i++) {
+                reads[i] = inputStream.readAsync(target, i * BUFFER_CAPACITY, BUFFER_CAPACITY);
+            }
+            CompletableFuture.allOf(reads).join();
+        }
+        return target[PAYLOAD_SIZE - 1];
+    }
+
+    private void writeChunks(OutputStream outputStream) throws IOException {
+        for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+            outputStream.write(payload, offset, Payloads.CHUNK_SIZE);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.BlockCompressingOutputStream;
+import com.bondarenko.io.BlockDecompressingInputStream;
+import com.bondarenko.io.ByteArrayInputStream;
+import com.bondarenko.io.ByteArrayOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlockCompressionBenchmark {
+    private static final int BLOCK_SIZE = 65536;
+    private static final String[] WORDS = {"GET", "POST", "/api/orders", "/api/users", "200", "404", "Kyiv", "Lviv"};
+
+    @Param({"4194304"})
+    private int payloadSize;
+
+    private byte[] payload;
+    private byte[] blockCompressed;
+    private byte[] gzipCompressed;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder text = new StringBuilder(payloadSize);
+        Random random = new Random(42);
+        while (text.length() < payloadSize) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ').append(random.nextInt(1000)).append('\n');
+        }
+        payload = text.substring(0, payloadSize).getBytes();
+        ByteArrayOutputStream blockOutputStream = new ByteArrayOutputStream();
+        compress(new BlockCompressingOutputStream(blockOutputStream, BLOCK_SIZE));
+        blockCompressed = blockOutputStream.toByteArray();
+        ByteArrayOutputStream gzipOutputStream = new ByteArrayOutputStream();
+        compress(new GZIPOutputStream(gzipOutputStream, BLOCK_SIZE));
+        gzipCompressed = gzipOutputStream.toByteArray();
+    }
+
+    @Benchmark
+    public void blockCompress() throws IOException {
+        compress(new BlockCompressingOutputStream(OutputStream.nullOutputStream(), BLOCK_SIZE));
+    }
+
+    @Benchmark
+    public void blockCompressParallel() throws IOException {
+        compress(new BlockCompressingOutputStream(OutputStream.nullOutputStream(), BLOCK_SIZE, ForkJoinPool.commonPool()));
+    }
+
+    @Benchmark
+    public void gzipCompress() throws IOException {
+        compress(new GZIPOutputStream(OutputStream.nullOutputStream(), BLOCK_SIZE));
+    }
+
+    @Benchmark
+    public long blockDecompress() throws IOException {
+        return decompress(new BlockDecompressingInputStream(new ByteArrayInputStream(blockCompressed)));
+    }
+
+    @Benchmark
+    public long gzipDecompress() throws IOException {
+        return decompress(new GZIPInputStream(new ByteArrayInputStream(gzipCompressed), BLOCK_SIZE));
+    }
+
+    private void compress(OutputStream outputStream) throws IOException {
+        try (outputStream) {
+            for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+                outputStream.write(payload, offset, Math.min(Payloads.CHUNK_SIZE, payload.length - offset));
+            }
+        }
+    }
+
+    private long decompress(InputStream inputStream) throws IOException {
+        byte[] array = new byte[BLOCK_SIZE];
+        long total = 0;
+        try (inputStream) {
+            int read;
+            while ((read = inputStream.read(array)) != -1) {
+                total += read;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,129 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.BufferPool;
+import com.bondarenko.io.BufferedChannelInputStream;
+import com.bondarenko.io.BufferedInputStream;
+import com.bondarenko.io.StreamMetrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferedInputStreamBenchmark {
+    @Param({"1024", "8192", "65536"})
+    private int bufferCapacity;
+
+    @Param({"4096", "1048576"})
+    private int payloadSize;
+
+    private Path file;
+    private byte[] chunk;
+    private ByteBuffer directBuffer;
+    private BufferPool bufferPool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Payloads.createFile(Payloads.randomBytes(payloadSize));
+        chunk = new byte[Payloads.CHUNK_SIZE];
+        directBuffer = ByteBuffer.allocateDirect(bufferCapacity);
+        bufferPool = new BufferPool();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void readByte(Blackhole blackhole) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file.toFile()), bufferCapacity)) {
+            readBytes(inputStream, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void meteredReadByte(Blackhole blackhole) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file.toFile()), bufferCapacity,
+                new StreamMetrics())) {
+            readBytes(inputStream, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void jdkReadByte(Blackhole blackhole) throws IOException {
+        try (InputStream inputStream = new java.io.BufferedInputStream(new FileInputStream(file.toFile()), bufferCapacity)) {
+            readBytes(inputStream, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void readArray(Blackhole blackhole) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file.toFile()), bufferCapacity)) {
+            readChunks(inputStream, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void pooledReadArray(Blackhole blackhole) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file.toFile()), bufferCapacity, bufferPool)) {
+            readChunks(inputStream, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void channelReadArray(Blackhole blackhole) throws IOException {
+        try (InputStream inputStream = new BufferedChannelInputStream(FileChannel.open(file, StandardOpenOption.READ), bufferCapacity)) {
+            readChunks(inputStream, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void jdkReadArray(Blackhole blackhole) throws IOException {
+        try (InputStream inputStream = new java.io.BufferedInputStream(new FileInputStream(file.toFile()), bufferCapacity)) {
+            readChunks(inputStream, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void fileChannelByteBuffer(Blackhole blackhole) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            directBuffer.clear();
+            while (channel.read(directBuffer) != -1) {
+                directBuffer.flip();
+                while (directBuffer.hasRemaining()) {
+                    int length = Math.min(chunk.length, directBuffer.remaining());
+                    directBuffer.get(chunk, 0, length);
+                    blackhole.consume(chunk);
+                }
+                directBuffer.clear();
+            }
+        }
+    }
+
+    private void readBytes(InputStream inputStream, Blackhole blackhole) throws IOException {
+        int value;
+        while ((value = inputStream.read()) != -1) {
+            blackhole.consume(value);
+        }
+    }
+
+    private void readChunks(InputStream inputStream, Blackhole blackhole) throws IOException {
+        while (inputStream.read(chunk, 0, chunk.length) != -1) {
+            blackhole.consume(chunk);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.BufferedChannelOutputStream;
+import com.bondarenko.io.BufferedOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferedOutputStreamBenchmark {
+    @Param({"1024", "8192", "65536"})
+    private int bufferCapacity;
+
+    @Param({"4096", "1048576"})
+    private int payloadSize;
+
+    private Path file;
+    private byte[] payload;
+    private ByteBuffer directBuffer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Payloads.createEmptyFile();
+        payload = Payloads.randomBytes(payloadSize);
+        directBuffer = ByteBuffer.allocateDirect(bufferCapacity);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void writeByte() throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file.toFile()), bufferCapacity)) {
+            writeBytes(outputStream);
+        }
+    }
+
+    @Benchmark
+    public void jdkWriteByte() throws IOException {
+        try (OutputStream outputStream = new java.io.BufferedOutputStream(new FileOutputStream(file.toFile()), bufferCapacity)) {
+            writeBytes(outputStream);
+        }
+    }
+
+    @Benchmark
+    public void writeArray() throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file.toFile()), bufferCapacity)) {
+            writeChunks(outputStream);
+        }
+    }
+
+    @Benchmark
+    public void checksumWriteByte() throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file.toFile()), bufferCapacity,
+                new CRC32C(), true)) {
+            writeBytes(outputStream);
+        }
+    }
+
+    @Benchmark
+    public void jdkCheckedWriteByte() throws IOException {
+        try (OutputStream outputStream = new CheckedOutputStream(
+                new java.io.BufferedOutputStream(new FileOutputStream(file.toFile()), bufferCapacity), new CRC32C())) {
+            writeBytes(outputStream);
+        }
+    }
+
+    @Benchmark
+    public void channelWriteArray() throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try (OutputStream outputStream = new BufferedChannelOutputStream(channel, bufferCapacity)) {
+            writeChunks(outputStream);
+        }
+    }
+
+    @Benchmark
+    public void jdkWriteArray() throws IOException {
+        try (OutputStream outputStream = new java.io.BufferedOutputStream(new FileOutputStream(file.toFile()), bufferCapacity)) {
+            writeChunks(outputStream);
+        }
+    }
+
+    @Benchmark
+    public void fileChannelByteBuffer() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            directBuffer.clear();
+            for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+                int length = Math.min(Payloads.CHUNK_SIZE, payload.length - offset);
+                if (directBuffer.remaining() < length) {
+                    drain(channel);
+                }
+                directBuffer.put(payload, offset, length);
+            }
+            drain(channel);
+        }
+    }
+
+    private void drain(FileChannel channel) throws IOException {
+        directBuffer.flip();
+        while (directBuffer.hasRemaining()) {
+            channel.write(directBuffer);
+        }
+        directBuffer.clear();
+    }
+
+    private void writeBytes(OutputStream outputStream) throws IOException {
+        for (byte b : payload) {
+            outputStream.write(b);
+        }
+    }
+
+    private void writeChunks(OutputStream outputStream) throws IOException {
+        for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+            outputStream.write(payload, offset, Math.min(Payloads.CHUNK_SIZE, payload.length - offset));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.ByteArrayInputStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteArrayInputStreamBenchmark {
+    @Param({"64", "512", "8192"})
+    private int bufferCapacity;
+
+    @Param({"4096", "1048576"})
+    private int payloadSize;
+
+    private byte[] payload;
+    private byte[] chunk;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        payload = Payloads.randomBytes(payloadSize);
+        chunk = new byte[bufferCapacity];
+    }
+
+    @Benchmark
+    public void readByte(Blackhole blackhole) {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(payload);
+        int value;
+        while ((value = inputStream.read()) != -1) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void jdkReadByte(Blackhole blackhole) {
+        java.io.ByteArrayInputStream inputStream = new java.io.ByteArrayInputStream(payload);
+        int value;
+        while ((value = inputStream.read()) != -1) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void readArray(Blackhole blackhole) throws IOException {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(payload);
+        while (inputStream.read(chunk, 0, chunk.length) != -1) {
+            blackhole.consume(chunk);
+        }
+    }
+
+    @Benchmark
+    public void jdkReadArray(Blackhole blackhole) {
+        java.io.ByteArrayInputStream inputStream = new java.io.ByteArrayInputStream(payload);
+        while (inputStream.read(chunk, 0, chunk.length) != -1) {
+            blackhole.consume(chunk);
+        }
+    }
+
+    @Benchmark
+    public void byteBuffer(Blackhole blackhole) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        while (buffer.hasRemaining()) {
+            buffer.get(chunk, 0, Math.min(chunk.length, buffer.remaining()));
+            blackhole.consume(chunk);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.ByteArrayInputStream;
+import com.bondarenko.io.ByteArrayOutputStream;
+import com.bondarenko.io.ChunkedByteArrayOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteArrayOutputStreamBenchmark {
+    @Param({"32", "1028", "65536"})
+    private int bufferCapacity;
+
+    @Param({"4096", "1048576"})
+    private int payloadSize;
+
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        payload = Payloads.randomBytes(payloadSize);
+    }
+
+    @Benchmark
+    public byte[] writeByte() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bufferCapacity);
+        for (byte b : payload) {
+            outputStream.write(b);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] jdkWriteByte() {
+        java.io.ByteArrayOutputStream outputStream = new java.io.ByteArrayOutputStream(bufferCapacity);
+        for (byte b : payload) {
+            outputStream.write(b);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeArrayToByteArray() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bufferCapacity);
+        for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+            outputStream.write(payload, offset, Math.min(Payloads.CHUNK_SIZE, payload.length - offset));
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] jdkWriteArrayToByteArray() {
+        java.io.ByteArrayOutputStream outputStream = new java.io.ByteArrayOutputStream(bufferCapacity);
+        for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+            outputStream.write(payload, offset, Math.min(Payloads.CHUNK_SIZE, payload.length - offset));
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public ByteArrayInputStream writeArrayToInputStream() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bufferCapacity);
+        for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+            outputStream.write(payload, offset, Math.min(Payloads.CHUNK_SIZE, payload.length - offset));
+        }
+        return outputStream.toInputStream();
+    }
+
+    @Benchmark
+    public ByteArrayInputStream writeArrayToByteArrayInputStream() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bufferCapacity);
+        for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+            outputStream.write(payload, offset, Math.min(Payloads.CHUNK_SIZE, payload.length - offset));
+        }
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    @Benchmark
+    public ByteBuffer[] chunkedWriteArrayToByteBuffers() throws IOException {
+        ChunkedByteArrayOutputStream outputStream = new ChunkedByteArrayOutputStream(bufferCapacity);
+        for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+            outputStream.write(payload, offset, Math.min(Payloads.CHUNK_SIZE, payload.length - offset));
+        }
+        return outputStream.toByteBuffers();
+    }
+
+    @Benchmark
+    public ByteBuffer byteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(payload.length);
+        for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+            buffer.put(payload, offset, Math.min(Payloads.CHUNK_SIZE, payload.length - offset));
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,54 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.BufferedOutputStream;
+import com.bondarenko.io.ConcurrentBufferedOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class ConcurrentBufferedOutputStreamBenchmark {
+    @Param({"8192", "65536"})
+    private int bufferCapacity;
+
+    @Param({"64", "1024"})
+    private int recordSize;
+
+    private byte[] record;
+    private ConcurrentBufferedOutputStream concurrentOutputStream;
+    private BufferedOutputStream bufferedOutputStream;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        record = Payloads.randomBytes(recordSize);
+        concurrentOutputStream = new ConcurrentBufferedOutputStream(OutputStream.nullOutputStream(), bufferCapacity,
+                Runtime.getRuntime().availableProcessors());
+        bufferedOutputStream = new BufferedOutputStream(OutputStream.nullOutputStream(), bufferCapacity);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        concurrentOutputStream.close();
+        bufferedOutputStream.close();
+    }
+
+    @Benchmark
+    public void concurrentWrite() throws IOException {
+        concurrentOutputStream.write(record, 0, record.length);
+    }
+
+    @Benchmark
+    public void synchronizedWrite() throws IOException {
+        synchronized (bufferedOutputStream) {
+            bufferedOutputStream.write(record, 0, record.length);
+        }
+    }
+}
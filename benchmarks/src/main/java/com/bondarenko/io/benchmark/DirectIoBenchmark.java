@@ -0,0 +1,89 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.BufferedInputStream;
+import com.bondarenko.io.BufferedOutputStream;
+import com.bondarenko.io.DirectIoInputStream;
+import com.bondarenko.io.DirectIoOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirectIoBenchmark {
+    private static final int PAYLOAD_SIZE = 16 << 20;
+    private static final int BUFFER_CAPACITY = 1 << 20;
+
+    private byte[] payload;
+    private byte[] chunk;
+    private Path file;
+    private Path readFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        payload = Payloads.randomBytes(PAYLOAD_SIZE);
+        chunk = new byte[64 * 1024];
+        file = Payloads.createEmptyFile();
+        readFile = Payloads.createFile(payload);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(readFile);
+    }
+
+    @Benchmark
+    public void pageCacheWrite() throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file.toFile()), BUFFER_CAPACITY)) {
+            writeChunks(outputStream);
+        }
+    }
+
+    @Benchmark
+    public void directIoWrite() throws IOException {
+        try (OutputStream outputStream = new DirectIoOutputStream(file, BUFFER_CAPACITY)) {
+            writeChunks(outputStream);
+        }
+    }
+
+    @Benchmark
+    public long pageCacheRead() throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(readFile.toFile()), BUFFER_CAPACITY)) {
+            return readChunks(inputStream);
+        }
+    }
+
+    @Benchmark
+    public long directIoRead() throws IOException {
+        try (InputStream inputStream = new DirectIoInputStream(readFile, BUFFER_CAPACITY)) {
+            return readChunks(inputStream);
+        }
+    }
+
+    private void writeChunks(OutputStream outputStream) throws IOException {
+        for (int offset = 0; offset < payload.length; offset += Payloads.CHUNK_SIZE) {
+            outputStream.write(payload, offset, Payloads.CHUNK_SIZE);
+        }
+    }
+
+    private long readChunks(InputStream inputStream) throws IOException {
+        long total = 0;
+        int bytes;
+        while ((bytes = inputStream.read(chunk)) != -1) {
+            total += bytes;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,74 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.BufferedInputStream;
+import com.bondarenko.io.ByteArrayOutputStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LineScanningBenchmark {
+    private static final int PAYLOAD_SIZE = 1 << 20;
+
+    @Param({"8192", "65536"})
+    private int bufferCapacity;
+
+    @Param({"16", "128", "1024"})
+    private int averageLineLength;
+
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        payload = new byte[PAYLOAD_SIZE];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = random.nextInt(averageLineLength) == 0 ? (byte) '\n' : (byte) ('a' + random.nextInt(26));
+        }
+    }
+
+    @Benchmark
+    public void readLine(Blackhole blackhole) throws IOException {
+        BufferedInputStream inputStream = new BufferedInputStream(new java.io.ByteArrayInputStream(payload), bufferCapacity);
+        ByteArrayOutputStream sink = new ByteArrayOutputStream(averageLineLength * 4);
+        long length;
+        while ((length = inputStream.readLine(sink)) != -1) {
+            blackhole.consume(length);
+        }
+    }
+
+    @Benchmark
+    public void readByteUntilNewLine(Blackhole blackhole) throws IOException {
+        BufferedInputStream inputStream = new BufferedInputStream(new java.io.ByteArrayInputStream(payload), bufferCapacity);
+        ByteArrayOutputStream sink = new ByteArrayOutputStream(averageLineLength * 4);
+        int value;
+        while ((value = inputStream.read()) != -1) {
+            if (value == '\n') {
+                blackhole.consume(sink.size());
+            } else {
+                sink.write(value);
+            }
+        }
+    }
+
+    @Benchmark
+    public void jdkBufferedReaderReadLine(Blackhole blackhole) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new java.io.ByteArrayInputStream(payload), StandardCharsets.ISO_8859_1), bufferCapacity);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            blackhole.consume(line);
+        }
+    }
+}
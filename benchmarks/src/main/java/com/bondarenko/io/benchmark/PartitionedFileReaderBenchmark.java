@@ -0,0 +1,75 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.BufferedInputStream;
+import com.bondarenko.io.PartitionedFileReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartitionedFileReaderBenchmark {
+    private static final int PAYLOAD_SIZE = 16 << 20;
+    private static final int BUFFER_CAPACITY = 64 * 1024;
+
+    @Param({"1048576", "4194304"})
+    private long partitionSize;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        byte[] payload = new byte[PAYLOAD_SIZE];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = random.nextInt(128) == 0 ? (byte) '\n' : (byte) ('a' + random.nextInt(26));
+        }
+        file = Payloads.createFile(payload);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long sequentialCountLines() throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file), BUFFER_CAPACITY)) {
+            return countLines(inputStream);
+        }
+    }
+
+    @Benchmark
+    public long partitionedCountLines() throws IOException {
+        try (PartitionedFileReader reader = new PartitionedFileReader(file, (byte) '\n', partitionSize, BUFFER_CAPACITY)) {
+            return reader.partitions().mapToLong(partition -> {
+                try (InputStream inputStream = partition.openStream()) {
+                    return countLines(inputStream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).sum();
+        }
+    }
+
+    private static long countLines(InputStream inputStream) throws IOException {
+        long lines = 0;
+        int value;
+        while ((value = inputStream.read()) != -1) {
+            if (value == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,30 @@
+package com.bondarenko.io.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+final class Payloads {
+    static final int CHUNK_SIZE = 512;
+    private static final long SEED = 42;
+
+    private Payloads() {
+    }
+
+    static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(SEED).nextBytes(bytes);
+        return bytes;
+    }
+
+    static Path createFile(byte[] content) throws IOException {
+        Path file = Files.createTempFile("bondarenko-io-benchmark", ".bin");
+        Files.write(file, content);
+        return file;
+    }
+
+    static Path createEmptyFile() throws IOException {
+        return Files.createTempFile("bondarenko-io-benchmark", ".bin");
+    }
+}
@@ -0,0 +1,82 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.BufferedInputStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveDecodingBenchmark {
+    private static final int VALUE_COUNT = 1 << 16;
+
+    @Param({"1024", "8192"})
+    private int bufferCapacity;
+
+    private byte[] longs;
+    private byte[] varInts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        longs = Payloads.randomBytes(VALUE_COUNT * Long.BYTES);
+        java.io.ByteArrayOutputStream encoded = new java.io.ByteArrayOutputStream();
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            int value = i * 31;
+            while ((value & ~0x7F) != 0) {
+                encoded.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            encoded.write(value);
+        }
+        varInts = encoded.toByteArray();
+    }
+
+    @Benchmark
+    public void readLong(Blackhole blackhole) throws IOException {
+        BufferedInputStream inputStream = new BufferedInputStream(new java.io.ByteArrayInputStream(longs), bufferCapacity);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            blackhole.consume(inputStream.readLong());
+        }
+    }
+
+    @Benchmark
+    public void dataInputStreamReadLong(Blackhole blackhole) throws IOException {
+        DataInputStream inputStream = new DataInputStream(
+                new java.io.BufferedInputStream(new java.io.ByteArrayInputStream(longs), bufferCapacity));
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            blackhole.consume(inputStream.readLong());
+        }
+    }
+
+    @Benchmark
+    public void readVarInt(Blackhole blackhole) throws IOException {
+        BufferedInputStream inputStream = new BufferedInputStream(new java.io.ByteArrayInputStream(varInts), bufferCapacity);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            blackhole.consume(inputStream.readVarInt());
+        }
+    }
+
+    @Benchmark
+    public void dataInputStreamReadVarInt(Blackhole blackhole) throws IOException {
+        DataInputStream inputStream = new DataInputStream(
+                new java.io.BufferedInputStream(new java.io.ByteArrayInputStream(varInts), bufferCapacity));
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = inputStream.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if (b < 0x80) {
+                    break;
+                }
+            }
+            blackhole.consume(value);
+        }
+    }
+}
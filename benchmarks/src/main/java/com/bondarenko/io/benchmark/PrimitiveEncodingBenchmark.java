@@ -0,0 +1,85 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.BufferedOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveEncodingBenchmark {
+    private static final int VALUE_COUNT = 1 << 16;
+    private static final String[] FIELDS = {"id", "customer-name", "Kyiv, Україна", "2026-10-17T10:15:30Z"};
+
+    @Param({"1024", "8192"})
+    private int bufferCapacity;
+
+    @Benchmark
+    public void writeLong() throws IOException {
+        BufferedOutputStream outputStream = new BufferedOutputStream(OutputStream.nullOutputStream(), bufferCapacity);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            outputStream.writeLong(i * 0x9E3779B97F4A7C15L);
+        }
+        outputStream.flush();
+    }
+
+    @Benchmark
+    public void dataOutputStreamWriteLong() throws IOException {
+        DataOutputStream outputStream = new DataOutputStream(
+                new java.io.BufferedOutputStream(OutputStream.nullOutputStream(), bufferCapacity));
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            outputStream.writeLong(i * 0x9E3779B97F4A7C15L);
+        }
+        outputStream.flush();
+    }
+
+    @Benchmark
+    public void writeVarInt() throws IOException {
+        BufferedOutputStream outputStream = new BufferedOutputStream(OutputStream.nullOutputStream(), bufferCapacity);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            outputStream.writeVarInt(i * 31);
+        }
+        outputStream.flush();
+    }
+
+    @Benchmark
+    public void dataOutputStreamWriteVarInt() throws IOException {
+        DataOutputStream outputStream = new DataOutputStream(
+                new java.io.BufferedOutputStream(OutputStream.nullOutputStream(), bufferCapacity));
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            int value = i * 31;
+            while ((value & ~0x7F) != 0) {
+                outputStream.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            outputStream.write(value);
+        }
+        outputStream.flush();
+    }
+
+    @Benchmark
+    public void writeUtf8() throws IOException {
+        BufferedOutputStream outputStream = new BufferedOutputStream(OutputStream.nullOutputStream(), bufferCapacity);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            outputStream.writeUtf8(FIELDS[i & 3]);
+        }
+        outputStream.flush();
+    }
+
+    @Benchmark
+    public void stringGetBytes() throws IOException {
+        java.io.BufferedOutputStream outputStream = new java.io.BufferedOutputStream(OutputStream.nullOutputStream(), bufferCapacity);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            outputStream.write(FIELDS[i & 3].getBytes(StandardCharsets.UTF_8));
+        }
+        outputStream.flush();
+    }
+}
@@ -0,0 +1,68 @@
+package com.bondarenko.io.benchmark;
+
+import com.bondarenko.io.RingBufferInputStream;
+import com.bondarenko.io.RingBufferOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingBufferPipeBenchmark {
+    private static final int PIPE_CAPACITY = 64 * 1024;
+
+    @Param({"16777216"})
+    private int payloadSize;
+
+    @Param({"512", "8192"})
+    private int chunkSize;
+
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        payload = Payloads.randomBytes(payloadSize);
+    }
+
+    @Benchmark
+    public long ringBufferPipe() throws Exception {
+        RingBufferInputStream inputStream = new RingBufferInputStream(PIPE_CAPACITY);
+        return pump(new RingBufferOutputStream(inputStream), inputStream);
+    }
+
+    @Benchmark
+    public long jdkPipedStreams() throws Exception {
+        PipedInputStream inputStream = new PipedInputStream(PIPE_CAPACITY);
+        return pump(new PipedOutputStream(inputStream), inputStream);
+    }
+
+    private long pump(OutputStream outputStream, InputStream inputStream) throws Exception {
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try (outputStream) {
+                for (int offset = 0; offset < payload.length; offset += chunkSize) {
+                    outputStream.write(payload, offset, Math.min(chunkSize, payload.length - offset));
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        byte[] array = new byte[chunkSize];
+        long total = 0;
+        int read;
+        while ((read = inputStream.read(array)) != -1) {
+            total += read;
+        }
+        writer.get();
+        return total;
+    }
+}
@@ -0,0 +1,90 @@
+package com.bondarenko.io;
+
+// one policy may drive several streams at once, their transfers then feed a single shared window;
+// the buffer grows when mostly full transfers happen less than every four requests,
+// so refills are what the caller waits on, and shrinks when the underlying reads
+// or writes keep moving only a small part of it
+public class AdaptiveBufferPolicy {
+    private static final int WINDOW = 16;
+    private static final int RESIZE_THRESHOLD = WINDOW * 3 / 4;
+    private static final int REQUESTS_PER_REFILL_TO_GROW = 4;
+    private final int minCapacity;
+    private final int maxCapacity;
+    private final BufferResizeListener resizeListener;
+    private volatile int capacity;
+    private int transfers;
+    private int fullTransfers;
+    private long transferredBytes;
+    private long requests;
+    private volatile int resizeCount;
+
+    public AdaptiveBufferPolicy(int minCapacity, int maxCapacity) {
+        this(minCapacity, maxCapacity, null);
+    }
+
+    public AdaptiveBufferPolicy(int minCapacity, int maxCapacity, BufferResizeListener resizeListener) {
+        if (minCapacity <= 0 || minCapacity > maxCapacity) {
+            throw new IllegalArgumentException("Incorrect buffer bounds: " + minCapacity + ".." + maxCapacity
+                    + ", min should be more than 0 and not more than max");
+        }
+        if (maxCapacity > 1 << 30) {
+            throw new IllegalArgumentException("Incorrect max buffer size: " + maxCapacity + ", should not be more than " + (1 << 30));
+        }
+        this.minCapacity = minCapacity;
+        this.maxCapacity = maxCapacity;
+        this.resizeListener = resizeListener;
+        this.capacity = this.minCapacity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getMinCapacity() {
+        return minCapacity;
+    }
+
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    public int getResizeCount() {
+        return resizeCount;
+    }
+
+    // requests is how many caller reads or writes the buffer served since the previous refill or flush
+    synchronized void recordTransfer(int transferred, int requests) {
+        this.requests += requests;
+        transfers++;
+        transferredBytes += transferred;
+        if (transferred * 4L >= capacity * 3L) {
+            fullTransfers++;
+        }
+        if (transfers == WINDOW) {
+            adjustCapacity();
+        }
+    }
+
+    private void adjustCapacity() {
+        long averageTransfer = transferredBytes / transfers;
+        boolean isRefilledOften = requests < (long) transfers * REQUESTS_PER_REFILL_TO_GROW;
+        int newCapacity = capacity;
+        if (fullTransfers >= RESIZE_THRESHOLD && isRefilledOften) {
+            newCapacity = Math.min(maxCapacity, capacity * 2);
+        } else if (fullTransfers <= WINDOW - RESIZE_THRESHOLD && averageTransfer * 4 <= capacity) {
+            newCapacity = Math.max(minCapacity, capacity / 2);
+        }
+        transfers = 0;
+        fullTransfers = 0;
+        transferredBytes = 0;
+        requests = 0;
+        if (newCapacity != capacity) {
+            int oldCapacity = capacity;
+            capacity = newCapacity;
+            resizeCount++;
+            if (resizeListener != null) {
+                resizeListener.onResize(oldCapacity, newCapacity);
+            }
+        }
+    }
+}
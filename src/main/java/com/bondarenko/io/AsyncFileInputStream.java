@@ -0,0 +1,210 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// buffered reads are chained one after another, reads of at least a buffer claim their range and run concurrently
+public class AsyncFileInputStream extends InputStream {
+    private static final int DEFAULT_BUFFER_CAPACITY = 64 * 1024;
+    private final AsynchronousFileChannel channel;
+    private final int capacity;
+    private final ByteBuffer buffer;
+    private CompletableFuture<Integer> tail = CompletableFuture.completedFuture(0);
+    private long position;
+    private boolean isClosed = false;
+
+    public AsyncFileInputStream(Path file) throws IOException {
+        this(file, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    public AsyncFileInputStream(Path file, int customCapacity) throws IOException {
+        this(openChannel(file, customCapacity), customCapacity);
+    }
+
+    public AsyncFileInputStream(AsynchronousFileChannel channel, int customCapacity) {
+        validateCapacity(customCapacity);
+        this.channel = channel;
+        this.capacity = customCapacity;
+        this.buffer = ByteBuffer.allocateDirect(customCapacity);
+        buffer.limit(0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        insureStreamIsNotClosed();
+        if (isIdle() && buffer.hasRemaining()) {
+            return buffer.get() & 0xFF;
+        }
+        byte[] array = new byte[1];
+        return read(array, 0, 1) == -1 ? -1 : array[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] array, int off, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, off, length);
+        if (length == 0) {
+            return 0;
+        }
+        if (isIdle() && buffer.hasRemaining()) {
+            return copyFromBuffer(array, off, length);
+        }
+        return await(readAsync(array, off, length));
+    }
+
+    // the array must not be touched until the returned future completes
+    public CompletableFuture<Integer> readAsync(byte[] array, int off, int length) {
+        try {
+            insureStreamIsNotClosed();
+            validateParameters(array, off, length);
+        } catch (IOException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (length == 0) {
+            return CompletableFuture.completedFuture(0);
+        }
+        if (isIdle()) {
+            if (buffer.hasRemaining()) {
+                return CompletableFuture.completedFuture(copyFromBuffer(array, off, length));
+            }
+            if (length >= capacity) {
+                return readDirectly(array, off, length);
+            }
+        }
+        tail = tail.thenCompose(ignored -> buffer.hasRemaining() ? CompletableFuture.completedFuture(0) : fillBuffer())
+                .thenApply(bytes -> bytes == -1 && !buffer.hasRemaining() ? -1 : copyFromBuffer(array, off, length));
+        return tail;
+    }
+
+    @Override
+    public int available() throws IOException {
+        insureStreamIsNotClosed();
+        return isIdle() ? buffer.remaining() : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        channel.close();
+    }
+
+    public AsynchronousFileChannel getChannel() {
+        return channel;
+    }
+
+    private boolean isIdle() {
+        return tail.isDone() && !tail.isCompletedExceptionally();
+    }
+
+    private int copyFromBuffer(byte[] array, int off, int length) {
+        int copiedBytes = Math.min(buffer.remaining(), length);
+        buffer.get(array, off, copiedBytes);
+        return copiedBytes;
+    }
+
+    private CompletableFuture<Integer> fillBuffer() {
+        buffer.clear();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        channel.read(buffer, position, null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(Integer bytes, Void attachment) {
+                buffer.flip();
+                if (bytes > 0) {
+                    position += bytes;
+                }
+                future.complete(bytes);
+            }
+
+            @Override
+            public void failed(Throwable exc, Void attachment) {
+                buffer.limit(0);
+                future.completeExceptionally(exc);
+            }
+        });
+        return future;
+    }
+
+    // the range is claimed up front so the next call can be submitted before this one completes
+    private CompletableFuture<Integer> readDirectly(byte[] array, int off, int length) {
+        long claimed;
+        try {
+            claimed = Math.min(length, channel.size() - position);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (claimed <= 0) {
+            return CompletableFuture.completedFuture(-1);
+        }
+        ByteBuffer target = ByteBuffer.wrap(array, off, (int) claimed);
+        long readPosition = position;
+        position += claimed;
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        channel.read(target, readPosition, null, new CompletionHandler<Integer, Void>() {
+            private int total;
+
+            @Override
+            public void completed(Integer bytes, Void attachment) {
+                if (bytes > 0) {
+                    total += bytes;
+                }
+                if (bytes == -1 || !target.hasRemaining()) {
+                    future.complete(total == 0 ? -1 : total);
+                    return;
+                }
+                channel.read(target, readPosition + total, null, this);
+            }
+
+            @Override
+            public void failed(Throwable exc, Void attachment) {
+                future.completeExceptionally(exc);
+            }
+        });
+        return future;
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The input stream has been closed");
+        }
+    }
+
+    private static int await(CompletableFuture<Integer> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static AsynchronousFileChannel openChannel(Path file, int customCapacity) throws IOException {
+        validateCapacity(customCapacity);
+        return AsynchronousFileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    private static void validateCapacity(int customCapacity) {
+        if (customCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity + ", should be more than 0");
+        }
+    }
+
+    private void validateParameters(byte[] array, int off, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (off < 0 || length < 0 || length > array.length - off) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Length can`t be more than " + (array.length - off));
+        }
+    }
+}
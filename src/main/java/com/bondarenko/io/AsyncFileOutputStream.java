@@ -0,0 +1,239 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// small writes coalesce in a direct buffer, every full buffer becomes one positional write with up to queueDepth in flight
+public class AsyncFileOutputStream extends OutputStream {
+    private static final int DEFAULT_BUFFER_CAPACITY = 64 * 1024;
+    private static final int DEFAULT_QUEUE_DEPTH = 16;
+    private final AsynchronousFileChannel channel;
+    private final int capacity;
+    private final int queueDepth;
+    private final DirectBufferPool bufferPool;
+    private final Deque<CompletableFuture<Void>> inFlight = new ArrayDeque<>();
+    private ByteBuffer buffer;
+    private long position;
+    private volatile Throwable failure;
+    private boolean isClosed = false;
+
+    public AsyncFileOutputStream(Path file) throws IOException {
+        this(file, DEFAULT_BUFFER_CAPACITY, DEFAULT_QUEUE_DEPTH);
+    }
+
+    public AsyncFileOutputStream(Path file, int customCapacity, int queueDepth) throws IOException {
+        this(openChannel(file, customCapacity, queueDepth), customCapacity, queueDepth);
+    }
+
+    public AsyncFileOutputStream(AsynchronousFileChannel channel, int customCapacity, int queueDepth) {
+        validateConfiguration(customCapacity, queueDepth);
+        this.channel = channel;
+        this.capacity = customCapacity;
+        this.queueDepth = queueDepth;
+        this.bufferPool = new DirectBufferPool(customCapacity, (long) customCapacity * (queueDepth + 1));
+        this.buffer = bufferPool.acquire(customCapacity);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        insureStreamIsNotClosed();
+        if (!buffer.hasRemaining()) {
+            awaitQueueDepth();
+            submitBuffer();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] array, int offset, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, offset, length);
+        while (length > 0) {
+            if (!buffer.hasRemaining()) {
+                awaitQueueDepth();
+                submitBuffer();
+            }
+            int copiedBytes = Math.min(buffer.remaining(), length);
+            buffer.put(array, offset, copiedBytes);
+            offset += copiedBytes;
+            length -= copiedBytes;
+        }
+    }
+
+    // the bytes are copied before returning, the future completes once the buffers filled by this call are written,
+    // a buffer submitted while queueDepth writes are in flight starts only after the oldest of them completes
+    public CompletableFuture<Void> writeAsync(byte[] array, int offset, int length) {
+        try {
+            insureStreamIsNotClosed();
+            validateParameters(array, offset, length);
+        } catch (IOException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        List<CompletableFuture<Void>> submitted = new ArrayList<>();
+        while (length > 0) {
+            if (!buffer.hasRemaining()) {
+                submitted.add(submitBuffer());
+            }
+            int copiedBytes = Math.min(buffer.remaining(), length);
+            buffer.put(array, offset, copiedBytes);
+            offset += copiedBytes;
+            length -= copiedBytes;
+        }
+        return CompletableFuture.allOf(submitted.toArray(new CompletableFuture<?>[0]));
+    }
+
+    public CompletableFuture<Void> flushAsync() {
+        try {
+            insureStreamIsNotClosed();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (buffer.position() > 0) {
+            submitBuffer();
+        }
+        return CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0]));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        await(flushAsync());
+        inFlight.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        try (channel) {
+            flush();
+        } finally {
+            isClosed = true;
+            bufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    public AsynchronousFileChannel getChannel() {
+        return channel;
+    }
+
+    private CompletableFuture<Void> submitBuffer() {
+        ByteBuffer submitted = buffer.flip();
+        PendingWrite pendingWrite = new PendingWrite(submitted, position);
+        position += submitted.remaining();
+        buffer = bufferPool.acquire(capacity);
+        inFlight.removeIf(CompletableFuture::isDone);
+        if (inFlight.size() < queueDepth) {
+            pendingWrite.start();
+        } else {
+            inFlight.poll().whenComplete((ignored, exc) -> {
+                if (exc == null) {
+                    pendingWrite.start();
+                } else {
+                    pendingWrite.failed(exc, null);
+                }
+            });
+        }
+        inFlight.add(pendingWrite.future);
+        return pendingWrite.future;
+    }
+
+    private void awaitQueueDepth() throws IOException {
+        while (inFlight.size() >= queueDepth) {
+            await(inFlight.poll());
+        }
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The output stream has been closed");
+        }
+        if (failure != null) {
+            throw new IOException("An asynchronous write has failed", failure);
+        }
+    }
+
+    private static void await(CompletableFuture<?> future) throws IOException {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static AsynchronousFileChannel openChannel(Path file, int customCapacity, int queueDepth) throws IOException {
+        validateConfiguration(customCapacity, queueDepth);
+        return AsynchronousFileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static void validateConfiguration(int customCapacity, int queueDepth) {
+        if (customCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity + ", should be more than 0");
+        }
+        if (queueDepth <= 0) {
+            throw new IllegalArgumentException("Incorrect queue depth: " + queueDepth + ", should be more than 0");
+        }
+    }
+
+    private void validateParameters(byte[] array, int offset, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException("offset or length can`t be less than zero. Offset+length can`t be more than " + array.length);
+        }
+    }
+
+    // a short write is resubmitted from where it stopped until the whole buffer is on disk
+    private class PendingWrite implements CompletionHandler<Integer, Void> {
+        private final ByteBuffer source;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private long writePosition;
+
+        private PendingWrite(ByteBuffer source, long writePosition) {
+            this.source = source;
+            this.writePosition = writePosition;
+        }
+
+        private void start() {
+            try {
+                channel.write(source, writePosition, null, this);
+            } catch (RuntimeException e) {
+                failed(e, null);
+            }
+        }
+
+        @Override
+        public void completed(Integer bytes, Void attachment) {
+            writePosition += bytes;
+            if (source.hasRemaining()) {
+                start();
+                return;
+            }
+            bufferPool.release(source);
+            future.complete(null);
+        }
+
+        @Override
+        public void failed(Throwable exc, Void attachment) {
+            failure = exc;
+            bufferPool.release(source);
+            future.completeExceptionally(exc);
+        }
+    }
+}
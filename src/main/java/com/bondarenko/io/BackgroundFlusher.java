@@ -0,0 +1,247 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+
+final class BackgroundFlusher {
+    private final OutputStream outputStream;
+    private final FileChannel fileChannel;
+    private final BlockingQueue<Chunk> queue;
+    private final ConcurrentLinkedQueue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+    private final int bufferCapacity;
+    private volatile IOException flushException;
+    private volatile boolean isStopped = false;
+
+    BackgroundFlusher(OutputStream outputStream, int bufferCapacity, int queueCapacity, ThreadFactory threadFactory) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect queue size: " + queueCapacity);
+        }
+        this.outputStream = outputStream;
+        this.fileChannel = StreamChannels.fileChannelOf(outputStream);
+        this.bufferCapacity = bufferCapacity;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        threadFactory.newThread(this::flushBehind).start();
+    }
+
+    byte[] newBuffer() {
+        byte[] freeBuffer = freeBuffers.poll();
+        return freeBuffer == null ? new byte[bufferCapacity] : freeBuffer;
+    }
+
+    boolean offer(byte[] buffer, int length) {
+        return queue.offer(new Chunk(buffer, length, null, false));
+    }
+
+    void put(byte[] buffer, int length) throws IOException {
+        if (isStopped) {
+            stoppedMarker(false);
+        }
+        put(new Chunk(buffer, length, null, false));
+    }
+
+    int queuedBuffers() {
+        return queue.size();
+    }
+
+    void flush() throws IOException {
+        awaitMarker(false);
+    }
+
+    void close() throws IOException {
+        awaitMarker(true);
+    }
+
+    void insureNoFlushException() throws IOException {
+        IOException exception = flushException;
+        if (exception != null) {
+            throw new IOException("Background flush failed", exception);
+        }
+    }
+
+    private void awaitMarker(boolean isClose) throws IOException {
+        if (isStopped) {
+            stoppedMarker(isClose);
+        }
+        Chunk marker = new Chunk(null, 0, new CountDownLatch(1), isClose);
+        put(marker);
+        if (isStopped) {
+            // the flusher may have released the queue before this marker arrived, nobody else would count it down
+            releasePendingMarkers();
+        }
+        try {
+            marker.latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for background flush");
+        }
+        if (!marker.isHandled) {
+            stoppedMarker(isClose);
+        }
+        insureNoFlushException();
+    }
+
+    private void put(Chunk chunk) throws IOException {
+        try {
+            queue.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for background flush queue");
+        }
+    }
+
+    private void flushBehind() {
+        List<Chunk> batch = new ArrayList<>();
+        try {
+            boolean isRunning = true;
+            while (isRunning) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                isRunning = flushBatch(batch);
+                batch.clear();
+            }
+            // the target is closed, a flush that lost the race with close() must fail instead of waiting
+            isStopped = true;
+            releasePendingMarkers();
+        } catch (InterruptedException e) {
+            stop(new InterruptedIOException("Background flusher was interrupted"));
+        } catch (Throwable e) {
+            // a target throwing anything but IOException must not leave writers waiting on a dead thread
+            stop(new IOException("Background flusher failed", e));
+            for (Chunk chunk : batch) {
+                if (chunk.latch != null) {
+                    chunk.latch.countDown();
+                }
+            }
+        }
+    }
+
+    private boolean flushBatch(List<Chunk> batch) {
+        boolean isRunning = true;
+        int start = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Chunk chunk = batch.get(i);
+            if (chunk.latch == null) {
+                continue;
+            }
+            writeChunks(batch, start, i);
+            start = i + 1;
+            try {
+                if (chunk.isClose) {
+                    isRunning = false;
+                    outputStream.close();
+                } else if (flushException == null) {
+                    outputStream.flush();
+                    if (fileChannel != null) {
+                        fileChannel.force(true);
+                    }
+                }
+            } catch (IOException e) {
+                setFlushException(e);
+            }
+            chunk.isHandled = true;
+            chunk.latch.countDown();
+        }
+        writeChunks(batch, start, batch.size());
+        return isRunning;
+    }
+
+    // the queued buffers go out back to back without another copy, as one gathering write when the target is a file
+    private void writeChunks(List<Chunk> batch, int from, int to) {
+        if (from < to && flushException == null) {
+            try {
+                if (fileChannel != null) {
+                    gatherWrite(batch, from, to);
+                } else {
+                    for (int i = from; i < to; i++) {
+                        outputStream.write(batch.get(i).buffer, 0, batch.get(i).length);
+                    }
+                }
+            } catch (IOException e) {
+                setFlushException(e);
+            }
+        }
+        for (int i = from; i < to; i++) {
+            byte[] buffer = batch.get(i).buffer;
+            if (buffer.length == bufferCapacity) {
+                freeBuffers.offer(buffer);
+            }
+        }
+    }
+
+    private void gatherWrite(List<Chunk> batch, int from, int to) throws IOException {
+        // a channel stream flushes its own buffer here, so its bytes stay ahead of ours
+        StreamChannels.writableChannelOf(outputStream);
+        ByteBuffer[] sources = new ByteBuffer[to - from];
+        long remaining = 0;
+        for (int i = from; i < to; i++) {
+            sources[i - from] = ByteBuffer.wrap(batch.get(i).buffer, 0, batch.get(i).length);
+            remaining += batch.get(i).length;
+        }
+        int offset = 0;
+        while (remaining > 0) {
+            remaining -= fileChannel.write(sources, offset, sources.length - offset);
+            while (offset < sources.length && !sources[offset].hasRemaining()) {
+                offset++;
+            }
+        }
+    }
+
+    // markers already queued or queued later must not wait for a flusher that is gone
+    private void stop(IOException exception) {
+        setFlushException(exception);
+        isStopped = true;
+        releasePendingMarkers();
+    }
+
+    private void releasePendingMarkers() {
+        Chunk chunk;
+        while ((chunk = queue.poll()) != null) {
+            if (chunk.latch != null) {
+                chunk.latch.countDown();
+            }
+        }
+    }
+
+    private void stoppedMarker(boolean isClose) throws IOException {
+        IOException exception = new IOException("Background flusher has stopped", flushException);
+        if (isClose) {
+            try {
+                outputStream.close();
+            } catch (IOException e) {
+                exception.addSuppressed(e);
+            }
+        }
+        throw exception;
+    }
+
+    private void setFlushException(IOException e) {
+        if (flushException == null) {
+            flushException = e;
+        }
+    }
+
+    private static final class Chunk {
+        private final byte[] buffer;
+        private final int length;
+        private final CountDownLatch latch;
+        private final boolean isClose;
+        private volatile boolean isHandled;
+
+        private Chunk(byte[] buffer, int length, CountDownLatch latch, boolean isClose) {
+            this.buffer = buffer;
+            this.length = length;
+            this.latch = latch;
+            this.isClose = isClose;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.bondarenko.io;
+
+public enum BackpressurePolicy {
+    BLOCK,
+    FAIL
+}
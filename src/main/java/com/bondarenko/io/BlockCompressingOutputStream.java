@@ -0,0 +1,223 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// frame: magic, then blocks of (raw length, stored length, payload) and an empty block as the end marker;
+// a block whose stored length equals its raw length is kept uncompressed
+public class BlockCompressingOutputStream extends OutputStream {
+    static final int MAGIC = 0x424C5A34;
+    static final int HEADER_SIZE = 8;
+    static final int MAX_BLOCK_SIZE = 1 << 24;
+    private static final int DEFAULT_BLOCK_SIZE = 65536;
+    private final OutputStream outputStream;
+    private final int blockSize;
+    private final ForkJoinPool forkJoinPool;
+    private final int maxBlocksInFlight;
+    private final BufferPool bufferPool;
+    private final ArrayDeque<ForkJoinTask<Block>> blocksInFlight = new ArrayDeque<>();
+    private final ArrayDeque<Block> freeBlocks = new ArrayDeque<>();
+    private Block block;
+    private boolean isMagicWritten = false;
+    private boolean isClosed = false;
+
+    public BlockCompressingOutputStream(OutputStream outputStream) {
+        this(outputStream, DEFAULT_BLOCK_SIZE);
+    }
+
+    public BlockCompressingOutputStream(OutputStream outputStream, int blockSize) {
+        this(outputStream, blockSize, null);
+    }
+
+    public BlockCompressingOutputStream(OutputStream outputStream, int blockSize, ForkJoinPool forkJoinPool) {
+        this(outputStream, blockSize, forkJoinPool, null);
+    }
+
+    // block buffers come from the same pool as the buffered streams' buffers and go back to it on close
+    public BlockCompressingOutputStream(OutputStream outputStream, int blockSize, ForkJoinPool forkJoinPool,
+                                        BufferPool bufferPool) {
+        if (blockSize <= 0 || blockSize > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("Incorrect block size: " + blockSize + ", should be between 1 and " + MAX_BLOCK_SIZE);
+        }
+        this.outputStream = outputStream;
+        this.blockSize = blockSize;
+        this.forkJoinPool = forkJoinPool;
+        this.maxBlocksInFlight = forkJoinPool == null ? 0 : forkJoinPool.getParallelism() * 2;
+        this.bufferPool = bufferPool;
+        this.block = new Block(blockSize, bufferPool);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        insureStreamIsNotClosed();
+        if (block.rawLength == blockSize) {
+            completeBlock();
+        }
+        block.raw[block.rawLength++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] array, int offset, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, offset, length);
+        while (length > 0) {
+            if (block.rawLength == blockSize) {
+                completeBlock();
+            }
+            if (forkJoinPool == null && block.rawLength == 0 && length >= blockSize) {
+                // a whole block is compressed straight from the caller's array
+                block.compress(array, offset, blockSize);
+                writeBlock(block, array, offset);
+                offset += blockSize;
+                length -= blockSize;
+                continue;
+            }
+            int copiedBytes = Math.min(blockSize - block.rawLength, length);
+            System.arraycopy(array, offset, block.raw, block.rawLength, copiedBytes);
+            block.rawLength += copiedBytes;
+            offset += copiedBytes;
+            length -= copiedBytes;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        insureStreamIsNotClosed();
+        if (block.rawLength > 0) {
+            completeBlock();
+        }
+        drainBlocksInFlight(0);
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        try (outputStream) {
+            if (block.rawLength > 0) {
+                completeBlock();
+            }
+            drainBlocksInFlight(0);
+            writeMagicOnce();
+            byte[] endMarker = new byte[HEADER_SIZE];
+            outputStream.write(endMarker);
+            outputStream.flush();
+        } finally {
+            isClosed = true;
+            if (bufferPool != null) {
+                block.release(bufferPool);
+                for (Block freeBlock : freeBlocks) {
+                    freeBlock.release(bufferPool);
+                }
+            }
+            block = null;
+            freeBlocks.clear();
+        }
+    }
+
+    private void completeBlock() throws IOException {
+        if (forkJoinPool == null) {
+            block.compress(block.raw, 0, block.rawLength);
+            writeBlock(block, block.raw, 0);
+            block.rawLength = 0;
+            return;
+        }
+        Block submittedBlock = block;
+        blocksInFlight.add(forkJoinPool.submit(() -> {
+            submittedBlock.compress(submittedBlock.raw, 0, submittedBlock.rawLength);
+            return submittedBlock;
+        }));
+        drainBlocksInFlight(maxBlocksInFlight);
+        Block freeBlock = freeBlocks.poll();
+        block = freeBlock == null ? new Block(blockSize, bufferPool) : freeBlock;
+    }
+
+    private void drainBlocksInFlight(int maxRemaining) throws IOException {
+        while (blocksInFlight.size() > maxRemaining) {
+            Block completedBlock = blocksInFlight.poll().join();
+            writeBlock(completedBlock, completedBlock.raw, 0);
+            completedBlock.rawLength = 0;
+            freeBlocks.add(completedBlock);
+        }
+    }
+
+    private void writeBlock(Block block, byte[] raw, int rawOffset) throws IOException {
+        writeMagicOnce();
+        if (block.isStored()) {
+            outputStream.write(block.frame, 0, HEADER_SIZE);
+            outputStream.write(raw, rawOffset, block.frameRawLength);
+        } else {
+            outputStream.write(block.frame, 0, HEADER_SIZE + block.compressedLength);
+        }
+    }
+
+    private void writeMagicOnce() throws IOException {
+        if (!isMagicWritten) {
+            byte[] magic = new byte[4];
+            writeInt(magic, 0, MAGIC);
+            outputStream.write(magic);
+            isMagicWritten = true;
+        }
+    }
+
+    static void writeInt(byte[] array, int offset, int value) {
+        array[offset] = (byte) (value >>> 24);
+        array[offset + 1] = (byte) (value >>> 16);
+        array[offset + 2] = (byte) (value >>> 8);
+        array[offset + 3] = (byte) value;
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The output stream has been closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int offset, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (offset < 0 || length < 0 || offset + length > array.length) {
+            throw new IndexOutOfBoundsException("offset or length can`t be less than zero. Offset+length can`t be more than " + array.length);
+        }
+    }
+
+    private static final class Block {
+        private final byte[] raw;
+        private final byte[] frame;
+        private int rawLength;
+        private int frameRawLength;
+        private final int maxCompressedLength;
+        private int compressedLength;
+
+        // the frame has the block's own size, so both buffers fall into one pool size class;
+        // a block that does not compress into it is stored raw
+        private Block(int blockSize, BufferPool bufferPool) {
+            this.raw = bufferPool == null ? new byte[blockSize] : bufferPool.acquire(blockSize);
+            this.frame = bufferPool == null ? new byte[blockSize] : bufferPool.acquire(blockSize);
+            this.maxCompressedLength = blockSize - HEADER_SIZE;
+        }
+
+        private void release(BufferPool bufferPool) {
+            bufferPool.release(raw);
+            bufferPool.release(frame);
+        }
+
+        private void compress(byte[] src, int offset, int length) {
+            frameRawLength = length;
+            int compressedLimit = Math.min(length - 1, maxCompressedLength);
+            compressedLength = compressedLimit <= 0 ? -1
+                    : Lz4BlockCodec.compress(src, offset, length, frame, HEADER_SIZE, compressedLimit);
+            writeInt(frame, 0, length);
+            writeInt(frame, 4, isStored() ? length : compressedLength);
+        }
+
+        private boolean isStored() {
+            return compressedLength == -1;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.bondarenko.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class BlockDecompressingInputStream extends InputStream {
+    private final InputStream inputStream;
+    private final BufferPool bufferPool;
+    private final byte[] header = new byte[BlockCompressingOutputStream.HEADER_SIZE];
+    private byte[] buffer = new byte[0];
+    private byte[] compressed = new byte[0];
+    private int index;
+    private int count;
+    private int blockRawLength;
+    private int blockStoredLength;
+    private boolean isMagicRead = false;
+    private boolean isEndOfStream = false;
+    private boolean isClosed = false;
+
+    public BlockDecompressingInputStream(InputStream inputStream) {
+        this(inputStream, null);
+    }
+
+    // block buffers come from the same pool as the buffered streams' buffers and go back to it on close
+    public BlockDecompressingInputStream(InputStream inputStream, BufferPool bufferPool) {
+        this.inputStream = inputStream;
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public int read() throws IOException {
+        insureStreamIsNotClosed();
+        if (index == count && !fillBuffer()) {
+            return -1;
+        }
+        return buffer[index++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] array, int offset, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, offset, length);
+        if (length == 0) {
+            return 0;
+        }
+        if (index == count) {
+            if (!readBlockHeader()) {
+                return -1;
+            }
+            if (blockRawLength <= length) {
+                // the block fits, so it is decoded straight into the caller's array
+                readBlock(array, offset);
+                return blockRawLength;
+            }
+            readBlockIntoBuffer();
+        }
+        int copiedBytes = Math.min(count - index, length);
+        System.arraycopy(buffer, index, array, offset, copiedBytes);
+        index += copiedBytes;
+        return copiedBytes;
+    }
+
+    @Override
+    public int available() throws IOException {
+        insureStreamIsNotClosed();
+        return count - index;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        releaseBuffer(buffer);
+        releaseBuffer(compressed);
+        buffer = null;
+        compressed = null;
+        inputStream.close();
+    }
+
+    private boolean fillBuffer() throws IOException {
+        if (!readBlockHeader()) {
+            return false;
+        }
+        readBlockIntoBuffer();
+        return true;
+    }
+
+    private void readBlockIntoBuffer() throws IOException {
+        if (buffer.length < blockRawLength) {
+            releaseBuffer(buffer);
+            buffer = allocateBuffer(blockRawLength);
+        }
+        readBlock(buffer, 0);
+        index = 0;
+        count = blockRawLength;
+    }
+
+    private boolean readBlockHeader() throws IOException {
+        if (isEndOfStream) {
+            return false;
+        }
+        if (!isMagicRead) {
+            readFully(header, 0, 4);
+            if (readInt(header, 0) != BlockCompressingOutputStream.MAGIC) {
+                throw new IOException("Not a block compressed stream");
+            }
+            isMagicRead = true;
+        }
+        readFully(header, 0, header.length);
+        blockRawLength = readInt(header, 0);
+        blockStoredLength = readInt(header, 4);
+        if (blockRawLength == 0 && blockStoredLength == 0) {
+            isEndOfStream = true;
+            return false;
+        }
+        if (blockRawLength <= 0 || blockRawLength > BlockCompressingOutputStream.MAX_BLOCK_SIZE
+                || blockStoredLength <= 0 || blockStoredLength > blockRawLength) {
+            throw new IOException("Malformed block header: raw length " + blockRawLength + ", stored length " + blockStoredLength);
+        }
+        return true;
+    }
+
+    private void readBlock(byte[] target, int offset) throws IOException {
+        if (blockStoredLength == blockRawLength) {
+            readFully(target, offset, blockRawLength);
+            return;
+        }
+        if (compressed.length < blockStoredLength) {
+            releaseBuffer(compressed);
+            compressed = allocateBuffer(blockStoredLength);
+        }
+        readFully(compressed, 0, blockStoredLength);
+        int decompressedBytes = Lz4BlockCodec.decompress(compressed, 0, blockStoredLength, target, offset, blockRawLength);
+        if (decompressedBytes != blockRawLength) {
+            throw new IOException("Malformed compressed block");
+        }
+    }
+
+    private void readFully(byte[] array, int offset, int length) throws IOException {
+        while (length > 0) {
+            int readBytes = inputStream.read(array, offset, length);
+            if (readBytes == -1) {
+                throw new EOFException("Unexpected end of compressed stream");
+            }
+            offset += readBytes;
+            length -= readBytes;
+        }
+    }
+
+    private static int readInt(byte[] array, int offset) {
+        return (array[offset] & 0xFF) << 24 | (array[offset + 1] & 0xFF) << 16
+                | (array[offset + 2] & 0xFF) << 8 | (array[offset + 3] & 0xFF);
+    }
+
+    private byte[] allocateBuffer(int capacity) {
+        return bufferPool == null ? new byte[capacity] : bufferPool.acquire(capacity);
+    }
+
+    private void releaseBuffer(byte[] array) {
+        if (bufferPool != null && array.length > 0) {
+            bufferPool.release(array);
+        }
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The input stream has been closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int offset, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (offset < 0 || length < 0 || offset + length > array.length) {
+            throw new IndexOutOfBoundsException("offset or length can`t be less than zero. Offset+length can`t be more than " + array.length);
+        }
+    }
+}
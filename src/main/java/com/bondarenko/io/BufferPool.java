@@ -0,0 +1,36 @@
+package com.bondarenko.io;
+
+// acquire rounds the capacity up to the next power of two, so the returned array may be longer than requested
+public class BufferPool {
+    private static final int DEFAULT_MAX_BUFFER_CAPACITY = 1 << 20;
+    private static final long DEFAULT_MAX_RETAINED_BYTES = 64L << 20;
+    private final SizeClassPool<byte[]> pool;
+
+    public BufferPool() {
+        this(DEFAULT_MAX_BUFFER_CAPACITY, DEFAULT_MAX_RETAINED_BYTES);
+    }
+
+    public BufferPool(int maxBufferCapacity, long maxRetainedBytes) {
+        this.pool = new SizeClassPool<>(maxBufferCapacity, maxRetainedBytes, byte[]::new, buffer -> buffer.length);
+    }
+
+    public byte[] acquire(int capacity) {
+        return pool.acquire(capacity);
+    }
+
+    public void release(byte[] buffer) {
+        pool.release(buffer);
+    }
+
+    public long getHitCount() {
+        return pool.getHitCount();
+    }
+
+    public long getMissCount() {
+        return pool.getMissCount();
+    }
+
+    public long getRetainedBytes() {
+        return pool.getRetainedBytes();
+    }
+}
@@ -0,0 +1,7 @@
+package com.bondarenko.io;
+
+@FunctionalInterface
+public interface BufferResizeListener {
+
+    void onResize(int oldCapacity, int newCapacity);
+}
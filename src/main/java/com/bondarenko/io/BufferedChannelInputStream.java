@@ -0,0 +1,147 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+public class BufferedChannelInputStream extends InputStream {
+    private static final int DEFAULT_BUFFER_CAPACITY = 8192;
+    private final ReadableByteChannel channel;
+    private final DirectBufferPool bufferPool;
+    private final int capacity;
+    private ByteBuffer buffer;
+    private boolean isEndOfStream;
+    private boolean isClosed = false;
+
+    public BufferedChannelInputStream(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    public BufferedChannelInputStream(ReadableByteChannel channel, int customCapacity) {
+        this(channel, customCapacity, null);
+    }
+
+    public BufferedChannelInputStream(ReadableByteChannel channel, int customCapacity, DirectBufferPool bufferPool) {
+        if (customCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity + ", should be more than 0");
+        }
+        this.channel = channel;
+        this.bufferPool = bufferPool;
+        this.capacity = customCapacity;
+        // a pooled buffer may be larger than asked for, every refill is limited to the requested capacity
+        this.buffer = bufferPool == null ? ByteBuffer.allocateDirect(customCapacity) : bufferPool.acquire(customCapacity);
+        buffer.limit(0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        insureStreamIsNotClosed();
+        if (fillBuffer() == -1) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] array, int off, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, off, length);
+        if (length == 0) {
+            return 0;
+        }
+        if (fillBuffer() == -1) {
+            return -1;
+        }
+        int copiedBytes = Math.min(buffer.remaining(), length);
+        buffer.get(array, off, copiedBytes);
+        return copiedBytes;
+    }
+
+    @Override
+    public int available() throws IOException {
+        insureStreamIsNotClosed();
+        return buffer.remaining();
+    }
+
+    @Override
+    public long transferTo(OutputStream outputStream) throws IOException {
+        insureStreamIsNotClosed();
+        if (outputStream == null) {
+            throw new NullPointerException("output stream is null");
+        }
+        long transferred = 0;
+        WritableByteChannel target = StreamChannels.writableChannelOf(outputStream);
+        if (target != null) {
+            transferred += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            if (channel instanceof FileChannel) {
+                transferred += StreamChannels.transfer((FileChannel) channel, target);
+            } else if (target instanceof FileChannel) {
+                transferred += StreamChannels.transfer(channel, (FileChannel) target);
+            }
+        }
+        byte[] array = null;
+        while (fillBuffer() != -1) {
+            if (array == null) {
+                array = new byte[Math.min(capacity, DEFAULT_BUFFER_CAPACITY)];
+            }
+            int bytes = Math.min(buffer.remaining(), array.length);
+            buffer.get(array, 0, bytes);
+            outputStream.write(array, 0, bytes);
+            transferred += bytes;
+        }
+        return transferred;
+    }
+
+    public ReadableByteChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        if (bufferPool != null) {
+            bufferPool.release(buffer);
+        }
+        buffer = null;
+        channel.close();
+    }
+
+    private int fillBuffer() throws IOException {
+        while (!buffer.hasRemaining()) {
+            if (isEndOfStream) {
+                return -1;
+            }
+            buffer.clear().limit(capacity);
+            int count = channel.read(buffer);
+            buffer.flip();
+            if (count == -1) {
+                isEndOfStream = true;
+            }
+        }
+        return buffer.remaining();
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The input stream has been closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int off, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (off < 0 || length < 0 || length > array.length - off) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Length can`t be more than " + (array.length - off));
+        }
+    }
+}
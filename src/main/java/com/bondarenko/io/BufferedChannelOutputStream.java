@@ -0,0 +1,107 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+public class BufferedChannelOutputStream extends OutputStream {
+    private static final int DEFAULT_BUFFER_CAPACITY = 8192;
+    private final WritableByteChannel channel;
+    private final DirectBufferPool bufferPool;
+    private final int capacity;
+    private ByteBuffer buffer;
+    private boolean isClosed = false;
+
+    public BufferedChannelOutputStream(WritableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    public BufferedChannelOutputStream(WritableByteChannel channel, int customCapacity) {
+        this(channel, customCapacity, null);
+    }
+
+    public BufferedChannelOutputStream(WritableByteChannel channel, int customCapacity, DirectBufferPool bufferPool) {
+        if (customCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity);
+        }
+        this.channel = channel;
+        this.bufferPool = bufferPool;
+        this.capacity = customCapacity;
+        // a pooled buffer may be larger than asked for, the limit keeps the stream to the requested capacity
+        this.buffer = bufferPool == null ? ByteBuffer.allocateDirect(customCapacity) : bufferPool.acquire(customCapacity);
+        buffer.limit(customCapacity);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        insureStreamIsNotClosed();
+        if (!buffer.hasRemaining()) {
+            flushBuffer();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] array, int offset, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, offset, length);
+        while (length > 0) {
+            if (!buffer.hasRemaining()) {
+                flushBuffer();
+            }
+            int copiedBytes = Math.min(buffer.remaining(), length);
+            buffer.put(array, offset, copiedBytes);
+            offset += copiedBytes;
+            length -= copiedBytes;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        insureStreamIsNotClosed();
+        flushBuffer();
+    }
+
+    public WritableByteChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        try (channel) {
+            flushBuffer();
+        } finally {
+            isClosed = true;
+            if (bufferPool != null) {
+                bufferPool.release(buffer);
+            }
+            buffer = null;
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear().limit(capacity);
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The output stream has been closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int offset, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (offset < 0 || length < 0 || offset + length > array.length) {
+            throw new IndexOutOfBoundsException("offset or length can`t be less than zero. Offset+length can`t be more than " + array.length);
+        }
+    }
+}
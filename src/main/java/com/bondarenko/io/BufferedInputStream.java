@@ -1,12 +1,37 @@
 package com.bondarenko.io;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.Checksum;
 
 public class BufferedInputStream extends InputStream {
     private static final int DEFAULT_BUFFER_CAPACITY = 1024;
+    private static final int MAX_VAR_LONG_BYTES = 10;
+    private static final VarHandle SHORT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
     private final InputStream inputStream;
+    private final BufferPool bufferPool;
+    private final AdaptiveBufferPolicy adaptiveBufferPolicy;
+    private final Checksum checksum;
+    private final StreamMetricsListener metricsListener;
+    private final byte[] trailer;
+    private int trailerCount;
+    private int unreportedRequests;
+    private int unreportedHits;
+    private long unreportedHitBytes;
     private byte[] buffer;
+    private int capacity;
     private int index;
     private int count;
     private boolean isClosed = false;
@@ -16,18 +41,62 @@ public class BufferedInputStream extends InputStream {
     }
 
     public BufferedInputStream(InputStream inputStream, int customCapacity) {
+        this(inputStream, customCapacity, (BufferPool) null);
+    }
+
+    public BufferedInputStream(InputStream inputStream, int customCapacity, BufferPool bufferPool) {
+        this(inputStream, customCapacity, bufferPool, null, null, false, null);
+    }
+
+    public BufferedInputStream(InputStream inputStream, int customCapacity, Checksum checksum, boolean verifyTrailer) {
+        this(inputStream, customCapacity, null, null, checksum, verifyTrailer, null);
+    }
+
+    public BufferedInputStream(InputStream inputStream, int customCapacity, StreamMetricsListener metricsListener) {
+        this(inputStream, customCapacity, null, null, null, false, metricsListener);
+    }
+
+    public BufferedInputStream(InputStream inputStream, AdaptiveBufferPolicy adaptiveBufferPolicy) {
+        this(inputStream, adaptiveBufferPolicy, null);
+    }
+
+    public BufferedInputStream(InputStream inputStream, AdaptiveBufferPolicy adaptiveBufferPolicy, BufferPool bufferPool) {
+        this(inputStream, adaptiveBufferPolicy.getCapacity(), bufferPool, adaptiveBufferPolicy, null, false, null);
+    }
+
+    private BufferedInputStream(InputStream inputStream, int customCapacity, BufferPool bufferPool,
+                                AdaptiveBufferPolicy adaptiveBufferPolicy, Checksum checksum, boolean verifyTrailer,
+                                StreamMetricsListener metricsListener) {
         if (customCapacity <= 0) {
             throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity + ", should be more than 0");
         }
+        if (verifyTrailer && checksum == null) {
+            throw new NullPointerException("checksum is null");
+        }
+        if (verifyTrailer && customCapacity < 2 * Long.BYTES) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity
+                    + ", should be at least " + 2 * Long.BYTES + " to hold back the checksum trailer");
+        }
         this.inputStream = inputStream;
-        this.buffer = new byte[customCapacity];
+        this.bufferPool = bufferPool;
+        this.adaptiveBufferPolicy = adaptiveBufferPolicy;
+        this.checksum = checksum;
+        this.metricsListener = metricsListener;
+        this.trailer = verifyTrailer ? new byte[Long.BYTES] : null;
+        this.capacity = customCapacity;
+        this.buffer = allocateBuffer(customCapacity);
     }
 
     @Override
     public int read() throws IOException {
         insureStreamIsNotClosed();
-        fillBuffer();
-        return count == -1 ? -1 : buffer[index++];
+        boolean isBufferHit = index < count;
+        if (fillBuffer() == -1) {
+            return -1;
+        }
+        int value = buffer[index] & 0xFF;
+        consume(1, isBufferHit);
+        return value;
     }
 
     @Override
@@ -43,65 +112,441 @@ public class BufferedInputStream extends InputStream {
     public int read(byte[] array, int off, int length) throws IOException {
         insureStreamIsNotClosed();
         validateParameters(array, off, length);
-        if (fillBuffer() == -1) {
-            return -1;
-        }
         if (length == 0) {
             return 0;
         }
-        if (length > buffer.length) {
-            System.arraycopy(new byte[array.length], 0, array, 0, length);
-            return inputStream.read(array, off, length);
-        }
         int availableBytes = count - index;
-        int copiedBytes;
+        boolean isBufferHit = availableBytes > 0;
+        if (!isBufferHit) {
+            if (length >= capacity && count != -1 && trailer == null) {
+                int bytes = inputStream.read(array, off, length);
+                if (checksum != null && bytes > 0) {
+                    checksum.update(array, off, bytes);
+                }
+                if (metricsListener != null) {
+                    recordBypass(Math.max(bytes, 0));
+                }
+                return bytes;
+            }
+            if (fillBuffer() == -1) {
+                return -1;
+            }
+            availableBytes = count - index;
+        }
+        int copiedBytes = Math.min(availableBytes, length);
+        System.arraycopy(buffer, index, array, off, copiedBytes);
+        consume(copiedBytes, isBufferHit);
+        return copiedBytes;
+    }
 
-        if (length <= availableBytes) {
-            System.arraycopy(buffer, index, array, off, length);
-            index += length;
-            copiedBytes = length;
-        } else {
-            System.arraycopy(buffer, index, array, off, availableBytes);
-            index += availableBytes;
-            copiedBytes = availableBytes;
+    public void readFully(byte[] array) throws IOException {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        }
+        readFully(array, 0, array.length);
+    }
 
-            int extraBytes = length - copiedBytes;
+    public void readFully(byte[] array, int off, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, off, length);
+        int copiedBytes = 0;
+        while (copiedBytes < length) {
+            int bytes = read(array, off + copiedBytes, length - copiedBytes);
+            if (bytes == -1) {
+                throw new EOFException("End of stream reached after " + copiedBytes + " of " + length + " bytes");
+            }
+            copiedBytes += bytes;
+        }
+    }
 
-            if (fillBuffer() == -1) {
-                System.arraycopy(new byte[array.length], off + copiedBytes, array, off + copiedBytes, extraBytes);
-            } else {
-                if (count < extraBytes) {
-                    System.arraycopy(buffer, index, array, off + copiedBytes, count);
-                    copiedBytes += count;
-                    index += count;
-                    System.arraycopy(new byte[array.length], off + copiedBytes, array, off + copiedBytes, off + length);
-                } else {
-                    System.arraycopy(buffer, index, array, off + copiedBytes, extraBytes);
-                    copiedBytes += extraBytes;
-                    index += extraBytes;
+    public short readShort() throws IOException {
+        boolean isBufferHit = count - index >= Short.BYTES;
+        if (!ensureAvailable(Short.BYTES)) {
+            return (short) readSlowly(Short.BYTES, true);
+        }
+        short value = (short) SHORT_BIG_ENDIAN.get(buffer, index);
+        consume(Short.BYTES, isBufferHit);
+        return value;
+    }
+
+    public short readShortLE() throws IOException {
+        boolean isBufferHit = count - index >= Short.BYTES;
+        if (!ensureAvailable(Short.BYTES)) {
+            return (short) readSlowly(Short.BYTES, false);
+        }
+        short value = (short) SHORT_LITTLE_ENDIAN.get(buffer, index);
+        consume(Short.BYTES, isBufferHit);
+        return value;
+    }
+
+    public int readInt() throws IOException {
+        boolean isBufferHit = count - index >= Integer.BYTES;
+        if (!ensureAvailable(Integer.BYTES)) {
+            return (int) readSlowly(Integer.BYTES, true);
+        }
+        int value = (int) INT_BIG_ENDIAN.get(buffer, index);
+        consume(Integer.BYTES, isBufferHit);
+        return value;
+    }
+
+    public int readIntLE() throws IOException {
+        boolean isBufferHit = count - index >= Integer.BYTES;
+        if (!ensureAvailable(Integer.BYTES)) {
+            return (int) readSlowly(Integer.BYTES, false);
+        }
+        int value = (int) INT_LITTLE_ENDIAN.get(buffer, index);
+        consume(Integer.BYTES, isBufferHit);
+        return value;
+    }
+
+    public long readLong() throws IOException {
+        boolean isBufferHit = count - index >= Long.BYTES;
+        if (!ensureAvailable(Long.BYTES)) {
+            return readSlowly(Long.BYTES, true);
+        }
+        long value = (long) LONG_BIG_ENDIAN.get(buffer, index);
+        consume(Long.BYTES, isBufferHit);
+        return value;
+    }
+
+    public long readLongLE() throws IOException {
+        boolean isBufferHit = count - index >= Long.BYTES;
+        if (!ensureAvailable(Long.BYTES)) {
+            return readSlowly(Long.BYTES, false);
+        }
+        long value = (long) LONG_LITTLE_ENDIAN.get(buffer, index);
+        consume(Long.BYTES, isBufferHit);
+        return value;
+    }
+
+    public int readVarInt() throws IOException {
+        long value = readVarLong();
+        if (value >>> Integer.SIZE != 0) {
+            throw new IOException("Malformed var int: value " + Long.toUnsignedString(value) + " does not fit into 32 bits");
+        }
+        return (int) value;
+    }
+
+    public long readVarLong() throws IOException {
+        insureStreamIsNotClosed();
+        if (count - index >= MAX_VAR_LONG_BYTES) {
+            long value = 0;
+            for (int shift = 0, position = index; shift < Long.SIZE; shift += 7) {
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    consume(position - index, true);
+                    return value;
                 }
             }
+            throw new IOException("Malformed var long: more than " + MAX_VAR_LONG_BYTES + " bytes");
         }
-        return copiedBytes;
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = read();
+            if (b == -1) {
+                throw new EOFException("End of stream reached inside var long");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if (b < 0x80) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed var long: more than " + MAX_VAR_LONG_BYTES + " bytes");
+    }
+
+    // position of the delimiter relative to the next unread byte, searched only within the currently buffered bytes
+    public int indexOf(byte delimiter) throws IOException {
+        insureStreamIsNotClosed();
+        if (fillBuffer() == -1) {
+            return -1;
+        }
+        int position = ByteScanner.indexOf(buffer, index, count, delimiter);
+        return position == -1 ? -1 : position - index;
+    }
+
+    public long readUntil(byte delimiter, OutputStream sink) throws IOException {
+        insureStreamIsNotClosed();
+        if (sink == null) {
+            throw new NullPointerException("sink is null");
+        }
+        long copiedBytes = 0;
+        boolean isBufferHit = index < count;
+        while (fillBuffer() != -1) {
+            int position = ByteScanner.indexOf(buffer, index, count, delimiter);
+            int end = position == -1 ? count : position;
+            sink.write(buffer, index, end - index);
+            copiedBytes += end - index;
+            if (position != -1) {
+                consume(position + 1 - index, isBufferHit);
+                return copiedBytes;
+            }
+            consume(count - index, isBufferHit);
+            isBufferHit = false;
+        }
+        return copiedBytes == 0 ? -1 : copiedBytes;
+    }
+
+    public long readLine(OutputStream sink) throws IOException {
+        insureStreamIsNotClosed();
+        if (sink == null) {
+            throw new NullPointerException("sink is null");
+        }
+        long copiedBytes = 0;
+        boolean isCarriageReturnPending = false;
+        boolean isBufferHit = index < count;
+        while (fillBuffer() != -1) {
+            int position = ByteScanner.indexOf(buffer, index, count, (byte) '\n');
+            int end = position == -1 ? count : position;
+            if (end > index) {
+                if (isCarriageReturnPending) {
+                    sink.write('\r');
+                    copiedBytes++;
+                }
+                isCarriageReturnPending = buffer[end - 1] == '\r';
+                int lineEnd = isCarriageReturnPending ? end - 1 : end;
+                sink.write(buffer, index, lineEnd - index);
+                copiedBytes += lineEnd - index;
+            }
+            if (position != -1) {
+                consume(position + 1 - index, isBufferHit);
+                return copiedBytes;
+            }
+            consume(count - index, isBufferHit);
+            isBufferHit = false;
+        }
+        if (isCarriageReturnPending) {
+            sink.write('\r');
+            copiedBytes++;
+        }
+        return copiedBytes == 0 ? -1 : copiedBytes;
+    }
+
+    @Override
+    public long transferTo(OutputStream outputStream) throws IOException {
+        insureStreamIsNotClosed();
+        if (outputStream == null) {
+            throw new NullPointerException("output stream is null");
+        }
+        long transferred = 0;
+        if (count - index > 0) {
+            outputStream.write(buffer, index, count - index);
+            transferred += count - index;
+            consume(count - index, true);
+        }
+        FileChannel source = checksum == null ? StreamChannels.fileChannelOf(inputStream) : null;
+        if (source != null) {
+            WritableByteChannel target = StreamChannels.writableChannelOf(outputStream);
+            if (target != null) {
+                long channelBytes = StreamChannels.transfer(source, target);
+                transferred += channelBytes;
+                if (metricsListener != null) {
+                    recordBypass((int) Math.min(channelBytes, Integer.MAX_VALUE));
+                }
+            }
+        }
+        while (fillBuffer() != -1) {
+            outputStream.write(buffer, index, count - index);
+            transferred += count - index;
+            consume(count - index, false);
+        }
+        return transferred;
     }
 
     @Override
     public void close() throws IOException {
-        index = 0;
-        count = 0;
-        buffer = null;
-        inputStream.close();
-        isClosed = true;
+        if (isClosed) {
+            return;
+        }
+        try (inputStream) {
+            if (metricsListener != null) {
+                reportHits();
+            }
+        } finally {
+            isClosed = true;
+            if (bufferPool != null) {
+                bufferPool.release(buffer);
+            }
+            index = 0;
+            count = 0;
+            buffer = null;
+        }
+    }
+
+    public int getBufferCapacity() {
+        return buffer == null ? 0 : capacity;
+    }
+
+    // covers every byte pulled into the buffer so far, including buffered bytes not yet read
+    public long getChecksumValue() {
+        if (checksum == null) {
+            throw new IllegalStateException("Checksum is not enabled for this stream");
+        }
+        return checksum.getValue();
     }
 
     private int fillBuffer() throws IOException {
         if (index == count) {
-            count = inputStream.read(buffer);
+            if (adaptiveBufferPolicy != null) {
+                resizeBuffer();
+            }
+            count = readFromSource(0);
             index = 0;
         }
         return count;
     }
 
+    private int readFromSource(int offset) throws IOException {
+        if (metricsListener == null) {
+            return pullFromSource(offset);
+        }
+        reportHits();
+        long start = System.nanoTime();
+        int bytes = pullFromSource(offset);
+        metricsListener.onFill(Math.max(bytes, 0), System.nanoTime() - start);
+        return bytes;
+    }
+
+    // every path that hands buffered bytes to the caller goes through here, so the metrics and the adaptive policy see all of them
+    private void consume(int bytes, boolean isBufferHit) {
+        unreportedRequests++;
+        index += bytes;
+        if (metricsListener != null) {
+            recordRead(bytes, isBufferHit);
+        }
+    }
+
+    private void recordBypass(int bytes) {
+        metricsListener.onBypassRead(bytes);
+        metricsListener.onRead(1, bytes, false);
+    }
+
+    private void recordRead(int bytes, boolean isBufferHit) {
+        if (isBufferHit) {
+            unreportedHits++;
+            unreportedHitBytes += bytes;
+        } else {
+            metricsListener.onRead(1, bytes, false);
+        }
+    }
+
+    private void reportHits() {
+        if (unreportedHits > 0) {
+            metricsListener.onRead(unreportedHits, unreportedHitBytes, true);
+            unreportedHits = 0;
+            unreportedHitBytes = 0;
+        }
+    }
+
+    private int pullFromSource(int offset) throws IOException {
+        if (trailer != null) {
+            return readHoldingBackTrailer(offset);
+        }
+        int bytes = inputStream.read(buffer, offset, capacity - offset);
+        if (bytes > 0) {
+            if (checksum != null) {
+                checksum.update(buffer, offset, bytes);
+            }
+            if (adaptiveBufferPolicy != null) {
+                recordTransfer(bytes);
+            }
+        }
+        return bytes;
+    }
+
+    // the last bytes of the source are the trailer, so the most recent ones are always kept back
+    // until more data arrives or the end of the stream proves them to be the trailer
+    private int readHoldingBackTrailer(int offset) throws IOException {
+        System.arraycopy(trailer, 0, buffer, offset, trailerCount);
+        int total = trailerCount;
+        while (total <= trailer.length) {
+            int bytes = inputStream.read(buffer, offset + total, capacity - offset - total);
+            if (bytes == -1) {
+                verifyTrailer(offset, total);
+                return -1;
+            }
+            total += bytes;
+        }
+        int deliveredBytes = total - trailer.length;
+        System.arraycopy(buffer, offset + deliveredBytes, trailer, 0, trailer.length);
+        trailerCount = trailer.length;
+        checksum.update(buffer, offset, deliveredBytes);
+        if (adaptiveBufferPolicy != null) {
+            recordTransfer(deliveredBytes);
+        }
+        return deliveredBytes;
+    }
+
+    private void verifyTrailer(int offset, int trailerBytes) throws IOException {
+        if (trailerBytes != trailer.length) {
+            throw new EOFException("End of stream reached, checksum trailer of " + trailer.length
+                    + " bytes expected but " + trailerBytes + " available");
+        }
+        long expected = (long) LONG_BIG_ENDIAN.get(buffer, offset);
+        if (expected != checksum.getValue()) {
+            throw new IOException("Checksum mismatch: trailer has " + Long.toHexString(expected)
+                    + " but data has " + Long.toHexString(checksum.getValue()));
+        }
+    }
+
+    // moves the unread tail to the front and tops the buffer up until it holds a whole value;
+    // returns false when the buffer is too small for the value, so the caller has to go byte by byte
+    private boolean ensureAvailable(int length) throws IOException {
+        insureStreamIsNotClosed();
+        int availableBytes = Math.max(count - index, 0);
+        if (availableBytes >= length) {
+            return true;
+        }
+        if (capacity < length) {
+            return false;
+        }
+        System.arraycopy(buffer, index, buffer, 0, availableBytes);
+        index = 0;
+        count = availableBytes;
+        while (count < length) {
+            int bytes = readFromSource(count);
+            if (bytes == -1) {
+                throw new EOFException("End of stream reached, " + length + " bytes expected but " + count + " available");
+            }
+            count += bytes;
+        }
+        return true;
+    }
+
+    private long readSlowly(int length, boolean isBigEndian) throws IOException {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            int b = read();
+            if (b == -1) {
+                throw new EOFException("End of stream reached, " + length + " bytes expected but " + i + " available");
+            }
+            value |= isBigEndian ? (long) b << (Byte.SIZE * (length - 1 - i)) : (long) b << (Byte.SIZE * i);
+        }
+        return value;
+    }
+
+    // requests are counted per stream and reach a possibly shared policy only once per refill
+    private void recordTransfer(int bytes) {
+        adaptiveBufferPolicy.recordTransfer(bytes, unreportedRequests);
+        unreportedRequests = 0;
+    }
+
+    private void resizeBuffer() {
+        int newCapacity = adaptiveBufferPolicy.getCapacity();
+        if (newCapacity != capacity) {
+            if (bufferPool != null) {
+                bufferPool.release(buffer);
+            }
+            capacity = newCapacity;
+            buffer = allocateBuffer(newCapacity);
+        }
+    }
+
+    // a pooled array may be longer than asked for, only its first capacity bytes are used
+    private byte[] allocateBuffer(int capacity) {
+        return bufferPool == null ? new byte[capacity] : bufferPool.acquire(capacity);
+    }
+
     private void insureStreamIsNotClosed() throws IOException {
         if (isClosed) {
             throw new IOException("The input stream has been closed");
@@ -116,4 +561,3 @@ public class BufferedInputStream extends InputStream {
         }
     }
 }
-
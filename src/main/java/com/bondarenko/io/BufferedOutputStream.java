@@ -2,12 +2,37 @@ package com.bondarenko.io;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Checksum;
 
 public class BufferedOutputStream extends OutputStream {
     private static final int DEFAULT_BUFFER_CAPACITY = 5;
+    private static final int MAX_UTF8_CHAR_BYTES = 4;
+    private static final VarHandle SHORT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
     private final OutputStream outputStream;
+    private final BufferPool bufferPool;
+    private final AdaptiveBufferPolicy adaptiveBufferPolicy;
+    private final Checksum checksum;
+    private final boolean writeTrailer;
+    private final StreamMetricsListener metricsListener;
+    private final GatheringByteChannel gatheringChannel;
     private int index;
     private byte[] buffer;
+    private int capacity;
+    private int unreportedWrites;
+    private long unreportedWriteBytes;
+    private int unreportedRequests;
     private boolean isClosed = false;
 
     public BufferedOutputStream(OutputStream outputStream) {
@@ -15,50 +40,428 @@ public class BufferedOutputStream extends OutputStream {
     }
 
     public BufferedOutputStream(OutputStream target, int customCapacity) {
+        this(target, customCapacity, (BufferPool) null);
+    }
+
+    public BufferedOutputStream(OutputStream target, int customCapacity, BufferPool bufferPool) {
+        this(target, customCapacity, bufferPool, null, null, false, null, null);
+    }
+
+    public BufferedOutputStream(OutputStream target, int customCapacity, Checksum checksum, boolean writeTrailer) {
+        this(target, customCapacity, null, null, checksum, writeTrailer, null, null);
+    }
+
+    public BufferedOutputStream(OutputStream target, int customCapacity, StreamMetricsListener metricsListener) {
+        this(target, customCapacity, null, null, null, false, metricsListener, null);
+    }
+
+    // buffered bytes and an array that does not fit go out together in one gathering write
+    public BufferedOutputStream(GatheringByteChannel target, int customCapacity) {
+        this(Channels.newOutputStream(target), customCapacity, null, null, null, false, null, target);
+    }
+
+    public BufferedOutputStream(OutputStream target, AdaptiveBufferPolicy adaptiveBufferPolicy) {
+        this(target, adaptiveBufferPolicy, null);
+    }
+
+    public BufferedOutputStream(OutputStream target, AdaptiveBufferPolicy adaptiveBufferPolicy, BufferPool bufferPool) {
+        this(target, adaptiveBufferPolicy.getCapacity(), bufferPool, adaptiveBufferPolicy, null, false, null, null);
+    }
+
+    private BufferedOutputStream(OutputStream target, int customCapacity, BufferPool bufferPool,
+                                 AdaptiveBufferPolicy adaptiveBufferPolicy, Checksum checksum, boolean writeTrailer,
+                                 StreamMetricsListener metricsListener, GatheringByteChannel gatheringChannel) {
+        if (writeTrailer && checksum == null) {
+            throw new NullPointerException("checksum is null");
+        }
         if (customCapacity <= 0) {
             throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity);
         }
         this.outputStream = target;
-        buffer = new byte[customCapacity];
+        this.bufferPool = bufferPool;
+        this.adaptiveBufferPolicy = adaptiveBufferPolicy;
+        this.checksum = checksum;
+        this.writeTrailer = writeTrailer;
+        this.metricsListener = metricsListener;
+        this.gatheringChannel = gatheringChannel;
+        capacity = customCapacity;
+        buffer = allocateBuffer(customCapacity);
     }
 
     @Override
     public void write(int b) throws IOException {
         insureStreamIsNotClosed();
-        buffer[index] = (byte) b;
-        index++;
-        if (index == DEFAULT_BUFFER_CAPACITY) {
-            flush();
-        }
+        writeByte(b);
+        recordWrite(1);
     }
 
     @Override
     public void write(byte[] array, int offset, int length) throws IOException {
         insureStreamIsNotClosed();
         validateParameters(array, offset, length);
-        int availableBytes = buffer.length - index;
-        if (availableBytes < length) {
-            flush();
+        recordWrite(length);
+        if (length > capacity && gatheringChannel != null) {
+            gatherWrite(new ByteBuffer[]{null, ByteBuffer.wrap(array, offset, length)});
+            return;
         }
-        if (length > buffer.length) {
-            outputStream.write(array, offset, length);
+        writeArray(array, offset, length);
+    }
+
+    public void writeBuffers(ByteBuffer... sources) throws IOException {
+        insureStreamIsNotClosed();
+        if (sources == null) {
+            throw new NullPointerException("sources are null");
+        }
+        long length = 0;
+        for (ByteBuffer source : sources) {
+            if (source == null) {
+                throw new NullPointerException("source is null");
+            }
+            length += source.remaining();
+        }
+        recordWrite(length);
+        if (length <= capacity - index) {
+            for (ByteBuffer source : sources) {
+                int copiedBytes = source.remaining();
+                source.get(buffer, index, copiedBytes);
+                index += copiedBytes;
+            }
+            return;
+        }
+        if (gatheringChannel != null) {
+            ByteBuffer[] gatheredSources = new ByteBuffer[sources.length + 1];
+            System.arraycopy(sources, 0, gatheredSources, 1, sources.length);
+            gatherWrite(gatheredSources);
+            return;
+        }
+        for (ByteBuffer source : sources) {
+            if (source.hasArray()) {
+                writeArray(source.array(), source.arrayOffset() + source.position(), source.remaining());
+                source.position(source.limit());
+                continue;
+            }
+            while (source.hasRemaining()) {
+                if (index == capacity) {
+                    flushBuffer();
+                }
+                int copiedBytes = Math.min(capacity - index, source.remaining());
+                source.get(buffer, index, copiedBytes);
+                index += copiedBytes;
+            }
+        }
+    }
+
+    public void writeShort(short value) throws IOException {
+        if (!ensureRoom(Short.BYTES)) {
+            writeSlowly(value, Short.BYTES, true);
         } else {
-            System.arraycopy(array, offset, buffer, index, length);
-            index += length;
+            SHORT_BIG_ENDIAN.set(buffer, index, value);
+            index += Short.BYTES;
+        }
+        recordWrite(Short.BYTES);
+    }
+
+    public void writeShortLE(short value) throws IOException {
+        if (!ensureRoom(Short.BYTES)) {
+            writeSlowly(value, Short.BYTES, false);
+        } else {
+            SHORT_LITTLE_ENDIAN.set(buffer, index, value);
+            index += Short.BYTES;
+        }
+        recordWrite(Short.BYTES);
+    }
+
+    public void writeInt(int value) throws IOException {
+        if (!ensureRoom(Integer.BYTES)) {
+            writeSlowly(value, Integer.BYTES, true);
+        } else {
+            INT_BIG_ENDIAN.set(buffer, index, value);
+            index += Integer.BYTES;
+        }
+        recordWrite(Integer.BYTES);
+    }
+
+    public void writeIntLE(int value) throws IOException {
+        if (!ensureRoom(Integer.BYTES)) {
+            writeSlowly(value, Integer.BYTES, false);
+        } else {
+            INT_LITTLE_ENDIAN.set(buffer, index, value);
+            index += Integer.BYTES;
+        }
+        recordWrite(Integer.BYTES);
+    }
+
+    public void writeLong(long value) throws IOException {
+        if (!ensureRoom(Long.BYTES)) {
+            writeSlowly(value, Long.BYTES, true);
+        } else {
+            LONG_BIG_ENDIAN.set(buffer, index, value);
+            index += Long.BYTES;
+        }
+        recordWrite(Long.BYTES);
+    }
+
+    public void writeLongLE(long value) throws IOException {
+        if (!ensureRoom(Long.BYTES)) {
+            writeSlowly(value, Long.BYTES, false);
+        } else {
+            LONG_LITTLE_ENDIAN.set(buffer, index, value);
+            index += Long.BYTES;
+        }
+        recordWrite(Long.BYTES);
+    }
+
+    public void writeVarInt(int value) throws IOException {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    public void writeVarLong(long value) throws IOException {
+        int length = varLongSize(value);
+        if (!ensureRoom(length)) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        } else {
+            while ((value & ~0x7FL) != 0) {
+                buffer[index++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[index++] = (byte) value;
+        }
+        recordWrite(length);
+    }
+
+    public void writeUtf8(CharSequence chars) throws IOException {
+        insureStreamIsNotClosed();
+        if (chars == null) {
+            throw new NullPointerException("chars is null");
+        }
+        int length = chars.length();
+        long encodedBytes = 0;
+        int i = 0;
+        while (i < length) {
+            int asciiLimit = Math.min(length, i + capacity - index);
+            int asciiStart = i;
+            for (char c; i < asciiLimit && (c = chars.charAt(i)) < 0x80; i++) {
+                buffer[index++] = (byte) c;
+            }
+            encodedBytes += i - asciiStart;
+            if (i == length) {
+                break;
+            }
+            if (index == capacity) {
+                flushBuffer();
+                continue;
+            }
+            char c = chars.charAt(i++);
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(chars.charAt(i))) {
+                codePoint = Character.toCodePoint(c, chars.charAt(i++));
+            } else if (Character.isSurrogate(c)) {
+                codePoint = '?';
+            }
+            encodedBytes += writeCodePoint(codePoint);
         }
+        recordWrite(encodedBytes);
     }
 
     @Override
     public void flush() throws IOException {
-        outputStream.write(buffer, 0, index);
+        flushBuffer();
+        outputStream.flush();
     }
 
     @Override
     public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
         try (outputStream) {
             flush();
+            if (writeTrailer) {
+                byte[] trailer = new byte[Long.BYTES];
+                LONG_BIG_ENDIAN.set(trailer, 0, checksum.getValue());
+                outputStream.write(trailer);
+                outputStream.flush();
+            }
+        } finally {
+            isClosed = true;
+            if (metricsListener != null) {
+                reportWrites();
+            }
+            if (bufferPool != null) {
+                bufferPool.release(buffer);
+            }
+            index = 0;
+            buffer = null;
+        }
+    }
+
+    public int getBufferCapacity() {
+        return buffer == null ? 0 : capacity;
+    }
+
+    // covers everything handed to the target so far, call flush() first to include the buffered bytes
+    public long getChecksumValue() {
+        if (checksum == null) {
+            throw new IllegalStateException("Checksum is not enabled for this stream");
+        }
+        return checksum.getValue();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (index > 0) {
+            if (checksum != null) {
+                checksum.update(buffer, 0, index);
+            }
+            if (metricsListener == null) {
+                outputStream.write(buffer, 0, index);
+            } else {
+                reportWrites();
+                long start = System.nanoTime();
+                outputStream.write(buffer, 0, index);
+                metricsListener.onFlush(index, System.nanoTime() - start);
+            }
+            if (adaptiveBufferPolicy != null) {
+                recordTransfer(index);
+            }
+            index = 0;
+        }
+    }
+
+    private void writeArray(byte[] array, int offset, int length) throws IOException {
+        int availableBytes = capacity - index;
+        if (availableBytes < length) {
+            flushBuffer();
+        }
+        if (length > capacity) {
+            if (checksum != null) {
+                checksum.update(array, offset, length);
+            }
+            if (metricsListener != null) {
+                metricsListener.onBypassWrite(length);
+            }
+            outputStream.write(array, offset, length);
+        } else {
+            System.arraycopy(array, offset, buffer, index, length);
+            index += length;
         }
-        isClosed = true;
+    }
+
+    // the first slot is filled with the buffered bytes, so both reach the channel in a single writev
+    private void gatherWrite(ByteBuffer[] sources) throws IOException {
+        sources[0] = ByteBuffer.wrap(buffer, 0, index);
+        long remaining = 0;
+        for (ByteBuffer source : sources) {
+            if (checksum != null) {
+                checksum.update(source.duplicate());
+            }
+            remaining += source.remaining();
+        }
+        if (metricsListener != null) {
+            reportWrites();
+            metricsListener.onBypassWrite((int) Math.min(remaining, Integer.MAX_VALUE));
+        }
+        while (remaining > 0) {
+            remaining -= gatheringChannel.write(sources);
+        }
+        if (adaptiveBufferPolicy != null && index > 0) {
+            recordTransfer(index);
+        }
+        index = 0;
+    }
+
+    // every public write reports through here exactly once, whichever path its bytes take
+    private void recordWrite(long bytes) {
+        unreportedRequests++;
+        if (metricsListener != null) {
+            unreportedWrites++;
+            unreportedWriteBytes += bytes;
+        }
+    }
+
+    private void writeByte(int b) throws IOException {
+        if (index == capacity) {
+            flushBuffer();
+        }
+        buffer[index++] = (byte) b;
+    }
+
+    private static int varLongSize(long value) {
+        return Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7);
+    }
+
+    private void reportWrites() {
+        if (unreportedWrites > 0) {
+            metricsListener.onWrite(unreportedWrites, unreportedWriteBytes);
+            unreportedWrites = 0;
+            unreportedWriteBytes = 0;
+        }
+    }
+
+    private boolean ensureRoom(int length) throws IOException {
+        insureStreamIsNotClosed();
+        if (capacity - index < length) {
+            flushBuffer();
+        }
+        return capacity >= length;
+    }
+
+    private void writeSlowly(long value, int length, boolean isBigEndian) throws IOException {
+        for (int i = 0; i < length; i++) {
+            int shift = isBigEndian ? Byte.SIZE * (length - 1 - i) : Byte.SIZE * i;
+            writeByte((int) (value >>> shift));
+        }
+    }
+
+    private int writeCodePoint(int codePoint) throws IOException {
+        if (!ensureRoom(MAX_UTF8_CHAR_BYTES)) {
+            byte[] encoded = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8);
+            writeArray(encoded, 0, encoded.length);
+            return encoded.length;
+        }
+        int start = index;
+        if (codePoint < 0x80) {
+            buffer[index++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            buffer[index++] = (byte) (0xC0 | codePoint >> 6);
+            buffer[index++] = (byte) (0x80 | codePoint & 0x3F);
+        } else if (codePoint < 0x10000) {
+            buffer[index++] = (byte) (0xE0 | codePoint >> 12);
+            buffer[index++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            buffer[index++] = (byte) (0x80 | codePoint & 0x3F);
+        } else {
+            buffer[index++] = (byte) (0xF0 | codePoint >> 18);
+            buffer[index++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            buffer[index++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            buffer[index++] = (byte) (0x80 | codePoint & 0x3F);
+        }
+        return index - start;
+    }
+
+    // requests are counted per stream and reach a possibly shared policy only once per flush
+    private void recordTransfer(int bytes) {
+        adaptiveBufferPolicy.recordTransfer(bytes, unreportedRequests);
+        unreportedRequests = 0;
+        resizeBuffer();
+    }
+
+    private void resizeBuffer() {
+        int newCapacity = adaptiveBufferPolicy.getCapacity();
+        if (newCapacity != capacity) {
+            if (bufferPool != null) {
+                bufferPool.release(buffer);
+            }
+            capacity = newCapacity;
+            buffer = allocateBuffer(newCapacity);
+        }
+    }
+
+    // a pooled array may be longer than asked for, only its first capacity bytes are used
+    private byte[] allocateBuffer(int capacity) {
+        return bufferPool == null ? new byte[capacity] : bufferPool.acquire(capacity);
     }
 
     private void insureStreamIsNotClosed() throws IOException {
@@ -0,0 +1,184 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// single-subscriber publisher: reads happen on the executor only while there is outstanding demand
+public class BufferedStreamPublisher implements Flow.Publisher<ByteBuffer> {
+    private final BufferedInputStream inputStream;
+    private final int chunkSize;
+    private final Executor executor;
+    private final AtomicBoolean isSubscribed = new AtomicBoolean();
+
+    public BufferedStreamPublisher(BufferedInputStream inputStream) {
+        this(inputStream, inputStream.getBufferCapacity(), ForkJoinPool.commonPool());
+    }
+
+    public BufferedStreamPublisher(BufferedInputStream inputStream, int chunkSize, Executor executor) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Incorrect chunk size: " + chunkSize + ", should be more than 0");
+        }
+        this.inputStream = inputStream;
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber is null");
+        }
+        if (!isSubscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new NoOpSubscription());
+            subscriber.onError(new IllegalStateException("The publisher supports only one subscriber"));
+            return;
+        }
+        StreamSubscription subscription = new StreamSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private class StreamSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private volatile boolean isCancelled = false;
+        private volatile Throwable requestError;
+        private boolean isStreamClosed = false;
+
+        private StreamSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (isCancelled) {
+                return;
+            }
+            if (n <= 0) {
+                requestError = new IllegalArgumentException("Requested " + n + " items, should be more than 0");
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            if (pendingDrains.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!isCancelled) {
+                isCancelled = true;
+                if (pendingDrains.getAndIncrement() == 0) {
+                    executor.execute(this::drain);
+                }
+            }
+        }
+
+        // only one drain runs at a time, requests arriving meanwhile are picked up by the loop
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!isCancelled && requestError != null) {
+                    terminate(requestError);
+                }
+                while (!isCancelled && demand.get() > 0) {
+                    ByteBuffer chunk;
+                    try {
+                        chunk = readChunk();
+                    } catch (Throwable e) {
+                        terminate(e);
+                        break;
+                    }
+                    if (chunk == null) {
+                        terminate(null);
+                        break;
+                    }
+                    demand.getAndUpdate(current -> current == Long.MAX_VALUE ? current : current - 1);
+                    subscriber.onNext(chunk);
+                }
+                if (isCancelled) {
+                    closeQuietly();
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        // the chunk is a fresh array handed over to the subscriber, a full-size chunk is read past the stream buffer;
+        // the read blocks, so a fork/join executor is told to compensate with a spare worker while it runs
+        private ByteBuffer readChunk() throws IOException {
+            ChunkReader chunkReader = new ChunkReader();
+            try {
+                ForkJoinPool.managedBlock(chunkReader);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while reading a chunk");
+            }
+            if (chunkReader.exception != null) {
+                throw chunkReader.exception;
+            }
+            return chunkReader.chunk;
+        }
+
+        private void terminate(Throwable error) {
+            isCancelled = true;
+            closeQuietly();
+            if (error == null) {
+                subscriber.onComplete();
+            } else {
+                subscriber.onError(error);
+            }
+        }
+
+        private void closeQuietly() {
+            if (isStreamClosed) {
+                return;
+            }
+            isStreamClosed = true;
+            try {
+                inputStream.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private class ChunkReader implements ForkJoinPool.ManagedBlocker {
+        private ByteBuffer chunk;
+        private IOException exception;
+        private boolean isDone = false;
+
+        @Override
+        public boolean block() {
+            byte[] array = new byte[chunkSize];
+            try {
+                int bytes = inputStream.read(array, 0, chunkSize);
+                chunk = bytes == -1 ? null : ByteBuffer.wrap(array, 0, bytes);
+            } catch (IOException e) {
+                exception = e;
+            }
+            isDone = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return isDone;
+        }
+    }
+
+    private static class NoOpSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
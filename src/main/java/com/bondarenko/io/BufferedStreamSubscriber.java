@@ -0,0 +1,96 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+// demand is only replenished after chunks are written, so a slow target throttles the publisher
+public class BufferedStreamSubscriber implements Flow.Subscriber<ByteBuffer> {
+    private static final int DEFAULT_PREFETCH = 16;
+    private final BufferedOutputStream outputStream;
+    private final int prefetch;
+    private final int replenishLimit;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+    private int consumedSinceRequest;
+    private boolean isDone = false;
+
+    public BufferedStreamSubscriber(BufferedOutputStream outputStream) {
+        this(outputStream, DEFAULT_PREFETCH);
+    }
+
+    public BufferedStreamSubscriber(BufferedOutputStream outputStream, int prefetch) {
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("Incorrect prefetch: " + prefetch + ", should be more than 0");
+        }
+        this.outputStream = outputStream;
+        this.prefetch = prefetch;
+        this.replenishLimit = Math.max(1, prefetch / 2);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(prefetch);
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+        if (isDone) {
+            return;
+        }
+        try {
+            outputStream.writeBuffers(item);
+        } catch (IOException e) {
+            subscription.cancel();
+            finish(e);
+            return;
+        }
+        if (++consumedSinceRequest == replenishLimit) {
+            consumedSinceRequest = 0;
+            subscription.request(replenishLimit);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!isDone) {
+            finish(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDone) {
+            finish(null);
+        }
+    }
+
+    // completes once the target is flushed and closed, or exceptionally with the first failure
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    private void finish(Throwable error) {
+        isDone = true;
+        try {
+            outputStream.close();
+        } catch (IOException e) {
+            if (error == null) {
+                error = e;
+            } else {
+                error.addSuppressed(e);
+            }
+        }
+        if (error == null) {
+            completion.complete(null);
+        } else {
+            completion.completeExceptionally(error);
+        }
+    }
+}
@@ -2,23 +2,46 @@ package com.bondarenko.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
 
 public class ByteArrayInputStream extends InputStream {
     private int count;
     private int index;
     private byte[] buffer;
+    private final StreamMetricsListener metricsListener;
     private boolean isClosed = false;
 
     public ByteArrayInputStream(byte[] buffer) {
+        this(buffer, null);
+    }
+
+    public ByteArrayInputStream(byte[] buffer, StreamMetricsListener metricsListener) {
+        this(buffer, 0, buffer.length, metricsListener);
+    }
+
+    // a view over buffer[offset, offset + length), the array is shared and never copied
+    public ByteArrayInputStream(byte[] buffer, int offset, int length) {
+        this(buffer, offset, length, null);
+    }
+
+    private ByteArrayInputStream(byte[] buffer, int offset, int length, StreamMetricsListener metricsListener) {
+        validateParameters(buffer, offset, length);
         this.buffer = buffer;
+        this.index = offset;
+        this.count = offset + length;
+        this.metricsListener = metricsListener;
     }
 
     @Override
     public int read() {
-        if (count == buffer.length) {
+        if (index == count) {
             return -1;
         }
-        return buffer[count++];
+        if (metricsListener != null) {
+            metricsListener.onRead(1, 1, true);
+        }
+        return buffer[index++] & 0xFF;
     }
 
     @Override
@@ -31,13 +54,49 @@ public class ByteArrayInputStream extends InputStream {
     public int read(byte[] array, int off, int length) throws IOException {
         insureStreamIsNotClosed();
         validateParameters(array, off, length);
-        if (count == buffer.length) {
+        if (index == count) {
             return -1;
         }
-        while (read() != -1) {
-            System.arraycopy(buffer, index, array, off, count);
+        int copiedBytes = Math.min(count - index, length);
+        System.arraycopy(buffer, index, array, off, copiedBytes);
+        index += copiedBytes;
+        recordRead(copiedBytes);
+        return copiedBytes;
+    }
+
+    @Override
+    public byte[] readAllBytes() throws IOException {
+        insureStreamIsNotClosed();
+        byte[] array = Arrays.copyOfRange(buffer, index, count);
+        recordRead(count - index);
+        index = count;
+        return array;
+    }
+
+    @Override
+    public byte[] readNBytes(int length) throws IOException {
+        insureStreamIsNotClosed();
+        if (length < 0) {
+            throw new IllegalArgumentException("length can`t be less than zero: " + length);
         }
-        return count;
+        int copiedBytes = Math.min(count - index, length);
+        byte[] array = Arrays.copyOfRange(buffer, index, index + copiedBytes);
+        index += copiedBytes;
+        recordRead(copiedBytes);
+        return array;
+    }
+
+    @Override
+    public long transferTo(OutputStream outputStream) throws IOException {
+        insureStreamIsNotClosed();
+        if (outputStream == null) {
+            throw new NullPointerException("output stream is null");
+        }
+        int transferred = count - index;
+        outputStream.write(buffer, index, transferred);
+        index = count;
+        recordRead(transferred);
+        return transferred;
     }
 
     @Override
@@ -46,6 +105,12 @@ public class ByteArrayInputStream extends InputStream {
         super.close();
     }
 
+    private void recordRead(int bytes) {
+        if (metricsListener != null) {
+            metricsListener.onRead(1, bytes, true);
+        }
+    }
+
     private void insureStreamIsNotClosed() throws IOException {
         if (isClosed) {
             throw new IOException("The input stream is not closed");
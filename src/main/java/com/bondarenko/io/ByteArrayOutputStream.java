@@ -7,10 +7,10 @@ import java.util.Arrays;
 public class ByteArrayOutputStream extends OutputStream {
     private static final int DEFAULT_BUFFER_CAPACITY = 1028;
     private final int GROW_FACTOR = 2;
+    private final StreamMetricsListener metricsListener;
     private boolean isClosed = false;
 
     private byte[] buffer;
-    private int size;
     private int index = 0;
 
     public ByteArrayOutputStream() {
@@ -18,8 +18,12 @@ public class ByteArrayOutputStream extends OutputStream {
     }
 
     public ByteArrayOutputStream(int customCapacity) {
-        this.size = customCapacity;
+        this(customCapacity, null);
+    }
+
+    public ByteArrayOutputStream(int customCapacity, StreamMetricsListener metricsListener) {
         buffer = new byte[customCapacity];
+        this.metricsListener = metricsListener;
     }
 
     @Override
@@ -27,10 +31,11 @@ public class ByteArrayOutputStream extends OutputStream {
         if (isClosed) {
             throw new IOException("The output stream is closed");
         }
+        ensureCapacity(index + 1);
         buffer[index] = (byte) b;
         index++;
-        if (index == DEFAULT_BUFFER_CAPACITY) {
-            flush();
+        if (metricsListener != null) {
+            metricsListener.onWrite(1, 1);
         }
     }
 
@@ -45,14 +50,12 @@ public class ByteArrayOutputStream extends OutputStream {
             throw new IOException("The output stream is closed");
         }
         validateParameters(array, off, length);
-
-        if (length > size - index) {
-            byte[] newArray = new byte[(size * GROW_FACTOR)];
-            System.arraycopy(buffer, 0, newArray, 0, size);
-            buffer = newArray;
-        }
+        ensureCapacity(index + length);
         System.arraycopy(array, off, buffer, index, length);
         index += length;
+        if (metricsListener != null) {
+            metricsListener.onWrite(1, length);
+        }
     }
 
     @Override
@@ -61,10 +64,36 @@ public class ByteArrayOutputStream extends OutputStream {
         isClosed = true;
     }
 
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(buffer, 0, index);
+    }
+
+    public int size() {
+        return index;
+    }
+
+    // shares the written bytes instead of copying them; later writes only append past them or move to a new array,
+    // so the stream keeps seeing exactly what was written before this call
+    public ByteArrayInputStream toInputStream() {
+        return new ByteArrayInputStream(buffer, 0, index);
+    }
+
     public byte[] toByteArray() {
         return Arrays.copyOf(buffer, index);
     }
 
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity - buffer.length > 0) {
+            int newCapacity = Math.max(buffer.length * GROW_FACTOR, minCapacity);
+            byte[] newArray = new byte[newCapacity];
+            System.arraycopy(buffer, 0, newArray, 0, index);
+            if (metricsListener != null) {
+                metricsListener.onGrow(buffer.length, newCapacity, index);
+            }
+            buffer = newArray;
+        }
+    }
+
     private void validateParameters(byte[] array, int off, int length) {
         if (array == null) {
             throw new NullPointerException("array of bytes is null");
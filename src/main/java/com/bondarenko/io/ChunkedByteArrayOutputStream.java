@@ -0,0 +1,130 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ChunkedByteArrayOutputStream extends OutputStream {
+    private static final int DEFAULT_CHUNK_CAPACITY = 64 * 1024;
+    private final List<byte[]> chunks = new ArrayList<>();
+    private final int chunkCapacity;
+    private byte[] currentChunk;
+    private int index;
+    private long size;
+    private boolean isClosed = false;
+
+    public ChunkedByteArrayOutputStream() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public ChunkedByteArrayOutputStream(int chunkCapacity) {
+        if (chunkCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect chunk size: " + chunkCapacity + ", should be more than 0");
+        }
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        insureStreamIsNotClosed();
+        if (currentChunk == null || index == currentChunk.length) {
+            addChunk();
+        }
+        currentChunk[index++] = (byte) b;
+        size++;
+    }
+
+    @Override
+    public void write(byte[] array) throws IOException {
+        write(array, 0, array.length);
+    }
+
+    @Override
+    public void write(byte[] array, int off, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, off, length);
+        while (length > 0) {
+            if (currentChunk == null || index == currentChunk.length) {
+                addChunk();
+            }
+            int copiedBytes = Math.min(currentChunk.length - index, length);
+            System.arraycopy(array, off, currentChunk, index, copiedBytes);
+            index += copiedBytes;
+            off += copiedBytes;
+            length -= copiedBytes;
+            size += copiedBytes;
+        }
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        int lastChunk = chunks.size() - 1;
+        for (int i = 0; i < lastChunk; i++) {
+            outputStream.write(chunks.get(i));
+        }
+        if (lastChunk >= 0) {
+            outputStream.write(currentChunk, 0, index);
+        }
+    }
+
+    public ByteBuffer[] toByteBuffers() {
+        ByteBuffer[] byteBuffers = new ByteBuffer[chunks.size()];
+        int lastChunk = byteBuffers.length - 1;
+        for (int i = 0; i < lastChunk; i++) {
+            byteBuffers[i] = ByteBuffer.wrap(chunks.get(i)).asReadOnlyBuffer();
+        }
+        if (lastChunk >= 0) {
+            byteBuffers[lastChunk] = ByteBuffer.wrap(currentChunk, 0, index).slice().asReadOnlyBuffer();
+        }
+        return byteBuffers;
+    }
+
+    public byte[] toByteArray() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Stream size " + size + " exceeds the maximum array size");
+        }
+        byte[] array = new byte[(int) size];
+        int position = 0;
+        int lastChunk = chunks.size() - 1;
+        for (int i = 0; i < lastChunk; i++) {
+            byte[] chunk = chunks.get(i);
+            System.arraycopy(chunk, 0, array, position, chunk.length);
+            position += chunk.length;
+        }
+        if (lastChunk >= 0) {
+            System.arraycopy(currentChunk, 0, array, position, index);
+        }
+        return array;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+        isClosed = true;
+    }
+
+    private void addChunk() {
+        currentChunk = new byte[chunkCapacity];
+        chunks.add(currentChunk);
+        index = 0;
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The output stream is closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int off, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (off < 0 || length < 0 || length + off > array.length) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Length+off can`t be more than " + array.length);
+        }
+    }
+}
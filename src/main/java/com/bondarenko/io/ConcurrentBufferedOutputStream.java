@@ -0,0 +1,162 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ConcurrentBufferedOutputStream extends OutputStream {
+    private static final int DEFAULT_BUFFER_CAPACITY = 8192;
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private final BackgroundFlusher backgroundFlusher;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int bufferCapacity;
+    private volatile boolean isClosed = false;
+
+    public ConcurrentBufferedOutputStream(OutputStream outputStream) {
+        this(outputStream, DEFAULT_BUFFER_CAPACITY, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ConcurrentBufferedOutputStream(OutputStream outputStream, int customCapacity, int stripeCount) {
+        this(outputStream, customCapacity, stripeCount, DaemonThreads.factory("concurrent-output-drainer"));
+    }
+
+    public ConcurrentBufferedOutputStream(OutputStream outputStream, int customCapacity, int stripeCount,
+                                          ThreadFactory threadFactory) {
+        if (customCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity);
+        }
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Incorrect stripe count: " + stripeCount);
+        }
+        this.bufferCapacity = customCapacity;
+        this.backgroundFlusher = new BackgroundFlusher(outputStream, customCapacity,
+                Math.max(DEFAULT_QUEUE_CAPACITY, stripeCount * 2), threadFactory);
+        int stripesLength = Integer.highestOneBit(stripeCount * 2 - 1);
+        this.stripeMask = stripesLength - 1;
+        this.stripes = new Stripe[stripesLength];
+        for (int i = 0; i < stripesLength; i++) {
+            stripes[i] = new Stripe(backgroundFlusher.newBuffer());
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        Stripe stripe = lockStripe();
+        try {
+            insureStreamIsNotClosed();
+            if (stripe.index == stripe.buffer.length) {
+                handOffBuffer(stripe);
+            }
+            stripe.buffer[stripe.index++] = (byte) b;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void write(byte[] array, int offset, int length) throws IOException {
+        validateParameters(array, offset, length);
+        Stripe stripe = lockStripe();
+        try {
+            insureStreamIsNotClosed();
+            if (length > bufferCapacity) {
+                handOffBuffer(stripe);
+                byte[] chunk = new byte[length];
+                System.arraycopy(array, offset, chunk, 0, length);
+                backgroundFlusher.put(chunk, length);
+                return;
+            }
+            if (stripe.buffer.length - stripe.index < length) {
+                handOffBuffer(stripe);
+            }
+            System.arraycopy(array, offset, stripe.buffer, stripe.index, length);
+            stripe.index += length;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        insureStreamIsNotClosed();
+        handOffPartialBuffers();
+        backgroundFlusher.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+        }
+        try {
+            isClosed = true;
+            for (Stripe stripe : stripes) {
+                handOffBuffer(stripe);
+            }
+        } finally {
+            for (Stripe stripe : stripes) {
+                stripe.lock.unlock();
+            }
+        }
+        backgroundFlusher.close();
+    }
+
+    // a thread always appends to the same stripe, so its own writes reach the drainer in program order
+    private Stripe lockStripe() {
+        Stripe stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+        stripe.lock.lock();
+        return stripe;
+    }
+
+    private void handOffBuffer(Stripe stripe) throws IOException {
+        if (stripe.index > 0) {
+            backgroundFlusher.put(stripe.buffer, stripe.index);
+            stripe.buffer = backgroundFlusher.newBuffer();
+            stripe.index = 0;
+        }
+    }
+
+    private void handOffPartialBuffers() throws IOException {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                insureStreamIsNotClosed();
+                handOffBuffer(stripe);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The output stream has been closed");
+        }
+        backgroundFlusher.insureNoFlushException();
+    }
+
+    private void validateParameters(byte[] array, int offset, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (offset < 0 || length < 0 || offset + length > array.length) {
+            throw new IndexOutOfBoundsException("offset or length can`t be less than zero. Offset+length can`t be more than " + array.length);
+        }
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private byte[] buffer;
+        private int index;
+        @SuppressWarnings("unused")
+        private long p1, p2, p3, p4, p5, p6, p7;
+
+        private Stripe(byte[] buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.bondarenko.io;
+
+import java.util.concurrent.ThreadFactory;
+
+final class DaemonThreads {
+
+    private DaemonThreads() {
+    }
+
+    static ThreadFactory factory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.bondarenko.io;
+
+import java.nio.ByteBuffer;
+
+// acquire rounds the capacity up to the next power of two, so the returned buffer may be larger than requested
+public class DirectBufferPool {
+    private static final int DEFAULT_MAX_BUFFER_CAPACITY = 1 << 20;
+    private static final long DEFAULT_MAX_RETAINED_BYTES = 64L << 20;
+    private final SizeClassPool<ByteBuffer> pool;
+
+    public DirectBufferPool() {
+        this(DEFAULT_MAX_BUFFER_CAPACITY, DEFAULT_MAX_RETAINED_BYTES);
+    }
+
+    public DirectBufferPool(int maxBufferCapacity, long maxRetainedBytes) {
+        this.pool = new SizeClassPool<>(maxBufferCapacity, maxRetainedBytes, ByteBuffer::allocateDirect, ByteBuffer::capacity);
+    }
+
+    public ByteBuffer acquire(int capacity) {
+        return pool.acquire(capacity).clear();
+    }
+
+    public void release(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer is null");
+        }
+        if (buffer.isDirect()) {
+            pool.release(buffer);
+        }
+    }
+
+    public long getHitCount() {
+        return pool.getHitCount();
+    }
+
+    public long getMissCount() {
+        return pool.getMissCount();
+    }
+
+    public long getRetainedBytes() {
+        return pool.getRetainedBytes();
+    }
+}
@@ -0,0 +1,42 @@
+package com.bondarenko.io;
+
+import com.sun.nio.file.ExtendedOpenOption;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// O_DIRECT needs every buffer address, file position and transfer size to be a multiple of the block size
+final class DirectIo {
+    private DirectIo() {
+    }
+
+    static FileChannel open(Path file, OpenOption... options) throws IOException {
+        OpenOption[] directOptions = Arrays.copyOf(options, options.length + 1);
+        directOptions[options.length] = ExtendedOpenOption.DIRECT;
+        return FileChannel.open(file, directOptions);
+    }
+
+    static int blockSizeOf(Path file) throws IOException {
+        return Math.toIntExact(Files.getFileStore(file).getBlockSize());
+    }
+
+    static ByteBuffer allocateAligned(int customCapacity, int blockSize) {
+        int capacity = alignUp(customCapacity, blockSize);
+        return ByteBuffer.allocateDirect(capacity + blockSize).alignedSlice(blockSize).limit(capacity).slice();
+    }
+
+    static int alignUp(int value, int blockSize) {
+        return (value + blockSize - 1) / blockSize * blockSize;
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// bypasses the page cache: every read fetches whole blocks into an aligned buffer, only the last one may come back short
+public class DirectIoInputStream extends InputStream {
+    private static final int DEFAULT_BUFFER_CAPACITY = 1 << 20;
+    private final FileChannel channel;
+    private final int blockSize;
+    private ByteBuffer buffer;
+    private boolean isEndOfStream;
+    private boolean isClosed = false;
+
+    public DirectIoInputStream(Path file) throws IOException {
+        this(file, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    public DirectIoInputStream(Path file, int customCapacity) throws IOException {
+        if (customCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity + ", should be more than 0");
+        }
+        this.channel = DirectIo.open(file, StandardOpenOption.READ);
+        try {
+            this.blockSize = DirectIo.blockSizeOf(file);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.buffer = DirectIo.allocateAligned(customCapacity, blockSize);
+        buffer.limit(0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        insureStreamIsNotClosed();
+        if (fillBuffer() == -1) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] array, int off, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, off, length);
+        if (length == 0) {
+            return 0;
+        }
+        if (fillBuffer() == -1) {
+            return -1;
+        }
+        int copiedBytes = Math.min(buffer.remaining(), length);
+        buffer.get(array, off, copiedBytes);
+        return copiedBytes;
+    }
+
+    @Override
+    public int available() throws IOException {
+        insureStreamIsNotClosed();
+        return buffer.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        try (channel) {
+            isClosed = true;
+        } finally {
+            buffer = null;
+        }
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    // a count that is not a multiple of the block size can only mean the end of the file was reached
+    private int fillBuffer() throws IOException {
+        if (buffer.hasRemaining()) {
+            return buffer.remaining();
+        }
+        if (isEndOfStream) {
+            return -1;
+        }
+        buffer.clear();
+        int bytes = channel.read(buffer);
+        buffer.flip();
+        if (bytes <= 0 || bytes % blockSize != 0) {
+            isEndOfStream = true;
+        }
+        return bytes <= 0 ? -1 : bytes;
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The input stream has been closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int off, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (off < 0 || length < 0 || length > array.length - off) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Length can`t be more than " + (array.length - off));
+        }
+    }
+}
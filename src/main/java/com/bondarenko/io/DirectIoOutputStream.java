@@ -0,0 +1,142 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// bypasses the page cache: only whole blocks reach the file, the tail is padded on close and cut off by truncate
+public class DirectIoOutputStream extends OutputStream {
+    private static final int DEFAULT_BUFFER_CAPACITY = 1 << 20;
+    private final FileChannel channel;
+    private final int blockSize;
+    private ByteBuffer buffer;
+    private boolean isClosed = false;
+
+    public DirectIoOutputStream(Path file) throws IOException {
+        this(file, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    public DirectIoOutputStream(Path file, int customCapacity) throws IOException {
+        if (customCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity + ", should be more than 0");
+        }
+        this.channel = DirectIo.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            this.blockSize = DirectIo.blockSizeOf(file);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.buffer = DirectIo.allocateAligned(customCapacity, blockSize);
+    }
+
+    public static boolean isSupported(Path directory) {
+        Path probe = null;
+        try {
+            probe = Files.createTempFile(directory, "direct-io-probe", ".bin");
+            try (DirectIoOutputStream outputStream = new DirectIoOutputStream(probe, 1)) {
+                outputStream.write(0);
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        } finally {
+            if (probe != null) {
+                try {
+                    Files.deleteIfExists(probe);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        insureStreamIsNotClosed();
+        if (!buffer.hasRemaining()) {
+            writeBuffer();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] array, int offset, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, offset, length);
+        while (length > 0) {
+            if (!buffer.hasRemaining()) {
+                writeBuffer();
+            }
+            int copiedBytes = Math.min(buffer.remaining(), length);
+            buffer.put(array, offset, copiedBytes);
+            offset += copiedBytes;
+            length -= copiedBytes;
+        }
+    }
+
+    // only the whole blocks are written, a partial block stays buffered until more bytes arrive or the stream is closed
+    @Override
+    public void flush() throws IOException {
+        insureStreamIsNotClosed();
+        int bufferedBytes = buffer.position();
+        int alignedBytes = bufferedBytes - bufferedBytes % blockSize;
+        if (alignedBytes == 0) {
+            return;
+        }
+        buffer.flip().limit(alignedBytes);
+        DirectIo.writeFully(channel, buffer);
+        buffer.limit(bufferedBytes).compact();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        try (channel) {
+            int tailBytes = buffer.position();
+            long length = channel.position() + tailBytes;
+            if (tailBytes > 0) {
+                int paddedBytes = DirectIo.alignUp(tailBytes, blockSize);
+                while (buffer.position() < paddedBytes) {
+                    buffer.put((byte) 0);
+                }
+                buffer.flip();
+                DirectIo.writeFully(channel, buffer);
+                channel.truncate(length);
+            }
+        } finally {
+            isClosed = true;
+            buffer = null;
+        }
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        DirectIo.writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The output stream has been closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int offset, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException("offset or length can`t be less than zero. Offset+length can`t be more than " + array.length);
+        }
+    }
+}
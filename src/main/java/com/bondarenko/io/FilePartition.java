@@ -0,0 +1,39 @@
+package com.bondarenko.io;
+
+import java.nio.channels.FileChannel;
+
+public class FilePartition {
+    private final FileChannel channel;
+    private final long start;
+    private final long end;
+    private final int bufferCapacity;
+
+    FilePartition(FileChannel channel, long start, long end, int bufferCapacity) {
+        this.channel = channel;
+        this.start = start;
+        this.end = end;
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public long getLength() {
+        return end - start;
+    }
+
+    // closing the returned stream leaves the shared channel open, the reader closes it
+    public BufferedInputStream openStream() {
+        return new BufferedInputStream(new FileRangeInputStream(channel, start, end), bufferCapacity);
+    }
+
+    @Override
+    public String toString() {
+        return "FilePartition[" + start + ", " + end + ")";
+    }
+}
@@ -0,0 +1,78 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+// positional reads only, so any number of ranges can share one channel across threads
+class FileRangeInputStream extends InputStream {
+    private final FileChannel channel;
+    private final long end;
+    private long position;
+    private boolean isClosed = false;
+
+    FileRangeInputStream(FileChannel channel, long start, long end) {
+        this.channel = channel;
+        this.position = start;
+        this.end = end;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] array = new byte[1];
+        return read(array, 0, 1) == -1 ? -1 : array[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] array, int off, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, off, length);
+        if (length == 0) {
+            return 0;
+        }
+        if (position >= end) {
+            return -1;
+        }
+        ByteBuffer target = ByteBuffer.wrap(array, off, (int) Math.min(length, end - position));
+        int bytes = channel.read(target, position);
+        if (bytes == -1) {
+            return -1;
+        }
+        position += bytes;
+        return bytes;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        insureStreamIsNotClosed();
+        long skipped = Math.max(0, Math.min(n, end - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        insureStreamIsNotClosed();
+        return (int) Math.min(end - position, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The input stream has been closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int off, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (off < 0 || length < 0 || length > array.length - off) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Length can`t be more than " + (array.length - off));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.bondarenko.io;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// per-byte read and write callbacks are left out on purpose, only calls that reach the underlying stream become events
+public class JfrStreamMetricsListener implements StreamMetricsListener {
+
+    @Override
+    public void onFill(int bytes, long nanos) {
+        BufferFillEvent event = new BufferFillEvent();
+        if (event.isEnabled()) {
+            event.bytes = bytes;
+            event.latency = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onFlush(int bytes, long nanos) {
+        BufferFlushEvent event = new BufferFlushEvent();
+        if (event.isEnabled()) {
+            event.bytes = bytes;
+            event.latency = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onBypassRead(int bytes) {
+        commitBypass(bytes, true);
+    }
+
+    @Override
+    public void onBypassWrite(int bytes) {
+        commitBypass(bytes, false);
+    }
+
+    @Override
+    public void onGrow(int oldCapacity, int newCapacity, int copiedBytes) {
+        BufferGrowEvent event = new BufferGrowEvent();
+        if (event.isEnabled()) {
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.copiedBytes = copiedBytes;
+            event.commit();
+        }
+    }
+
+    private void commitBypass(int bytes, boolean isRead) {
+        BufferBypassEvent event = new BufferBypassEvent();
+        if (event.isEnabled()) {
+            event.bytes = bytes;
+            event.isRead = isRead;
+            event.commit();
+        }
+    }
+
+    @Name("com.bondarenko.io.BufferFill")
+    @Label("Buffer Fill")
+    @Category({"Bondarenko IO", "Buffers"})
+    @StackTrace(false)
+    static class BufferFillEvent extends Event {
+        @Label("Bytes")
+        @DataAmount
+        int bytes;
+
+        @Label("Latency")
+        @Timespan
+        long latency;
+    }
+
+    @Name("com.bondarenko.io.BufferFlush")
+    @Label("Buffer Flush")
+    @Category({"Bondarenko IO", "Buffers"})
+    @StackTrace(false)
+    static class BufferFlushEvent extends Event {
+        @Label("Bytes")
+        @DataAmount
+        int bytes;
+
+        @Label("Latency")
+        @Timespan
+        long latency;
+    }
+
+    @Name("com.bondarenko.io.BufferBypass")
+    @Label("Buffer Bypass")
+    @Category({"Bondarenko IO", "Buffers"})
+    @StackTrace(false)
+    static class BufferBypassEvent extends Event {
+        @Label("Bytes")
+        @DataAmount
+        int bytes;
+
+        @Label("Read")
+        boolean isRead;
+    }
+
+    @Name("com.bondarenko.io.BufferGrow")
+    @Label("Buffer Grow")
+    @Category({"Bondarenko IO", "Buffers"})
+    static class BufferGrowEvent extends Event {
+        @Label("Old Capacity")
+        @DataAmount
+        int oldCapacity;
+
+        @Label("New Capacity")
+        @DataAmount
+        int newCapacity;
+
+        @Label("Copied Bytes")
+        @DataAmount
+        int copiedBytes;
+    }
+}
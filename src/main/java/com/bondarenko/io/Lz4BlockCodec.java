@@ -0,0 +1,191 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+// LZ4 block format: each sequence is a token (literal length << 4 | match length - 4), extra length bytes,
+// literals, a two byte little-endian offset and extra match length bytes; the last sequence holds literals only
+final class Lz4BlockCodec {
+    private static final VarHandle INT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MATCH_FIND_LIMIT = 12;
+    private static final int MAX_OFFSET = 0xFFFF;
+    private static final int HASH_LOG = 14;
+    private static final int SKIP_TRIGGER = 6;
+    private static final int RUN_MASK = 0x0F;
+    private static final ThreadLocal<int[]> HASH_TABLES = ThreadLocal.withInitial(() -> new int[1 << HASH_LOG]);
+
+    private Lz4BlockCodec() {
+    }
+
+    static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    static int compress(byte[] src, int srcOff, int srcLength, byte[] dst, int dstOff) {
+        return compress(src, srcOff, srcLength, dst, dstOff, maxCompressedLength(srcLength));
+    }
+
+    // returns -1 as soon as the output could grow past dstLimit bytes, so callers that would store such data raw
+    // need no room for the worst case
+    static int compress(byte[] src, int srcOff, int srcLength, byte[] dst, int dstOff, int dstLimit) {
+        int dstEnd = dstOff + dstLimit;
+        int srcEnd = srcOff + srcLength;
+        int matchLimit = srcEnd - LAST_LITERALS;
+        int matchFindLimit = srcEnd - MATCH_FIND_LIMIT;
+        int anchor = srcOff;
+        int sp = srcOff;
+        int dp = dstOff;
+        if (srcLength >= MATCH_FIND_LIMIT) {
+            int[] hashTable = HASH_TABLES.get();
+            Arrays.fill(hashTable, -1);
+            while (sp < matchFindLimit) {
+                int sequence = (int) INT_LITTLE_ENDIAN.get(src, sp);
+                int hash = hash(sequence);
+                int reference = hashTable[hash];
+                hashTable[hash] = sp;
+                if (reference == -1 || sp - reference > MAX_OFFSET || (int) INT_LITTLE_ENDIAN.get(src, reference) != sequence) {
+                    sp += 1 + ((sp - anchor) >>> SKIP_TRIGGER);
+                    continue;
+                }
+                while (sp > anchor && reference > srcOff && src[sp - 1] == src[reference - 1]) {
+                    sp--;
+                    reference--;
+                }
+                int matchLength = MIN_MATCH;
+                while (sp + matchLength < matchLimit && src[reference + matchLength] == src[sp + matchLength]) {
+                    matchLength++;
+                }
+                int literalLength = sp - anchor;
+                if (3 + literalLength + extraLengthBytes(literalLength) + extraLengthBytes(matchLength - MIN_MATCH) > dstEnd - dp) {
+                    return -1;
+                }
+                dp = writeSequence(src, anchor, literalLength, sp - reference, matchLength, dst, dp);
+                sp += matchLength;
+                anchor = sp;
+            }
+        }
+        int lastLiteralLength = srcEnd - anchor;
+        if (1 + lastLiteralLength + extraLengthBytes(lastLiteralLength) > dstEnd - dp) {
+            return -1;
+        }
+        return writeLastLiterals(src, anchor, lastLiteralLength, dst, dp) - dstOff;
+    }
+
+    static int decompress(byte[] src, int srcOff, int srcLength, byte[] dst, int dstOff, int dstLength) throws IOException {
+        int srcEnd = srcOff + srcLength;
+        int dstEnd = dstOff + dstLength;
+        int sp = srcOff;
+        int dp = dstOff;
+        while (sp < srcEnd) {
+            int token = src[sp++] & 0xFF;
+            int literalLength = token >>> 4;
+            if (literalLength == RUN_MASK) {
+                int b;
+                do {
+                    insureInBounds(sp < srcEnd);
+                    b = src[sp++] & 0xFF;
+                    literalLength += b;
+                    insureInBounds(literalLength <= dstEnd - dp);
+                } while (b == 0xFF);
+            }
+            insureInBounds(literalLength <= srcEnd - sp && literalLength <= dstEnd - dp);
+            System.arraycopy(src, sp, dst, dp, literalLength);
+            sp += literalLength;
+            dp += literalLength;
+            if (sp == srcEnd) {
+                break;
+            }
+            insureInBounds(srcEnd - sp >= 2);
+            int offset = (src[sp] & 0xFF) | (src[sp + 1] & 0xFF) << 8;
+            sp += 2;
+            insureInBounds(offset > 0 && offset <= dp - dstOff);
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK) {
+                int b;
+                do {
+                    insureInBounds(sp < srcEnd);
+                    b = src[sp++] & 0xFF;
+                    matchLength += b;
+                    insureInBounds(matchLength <= dstEnd - dp);
+                } while (b == 0xFF);
+            }
+            matchLength += MIN_MATCH;
+            insureInBounds(matchLength <= dstEnd - dp);
+            int reference = dp - offset;
+            if (offset >= matchLength) {
+                System.arraycopy(dst, reference, dst, dp, matchLength);
+                dp += matchLength;
+            } else {
+                for (int i = 0; i < matchLength; i++) {
+                    dst[dp++] = dst[reference++];
+                }
+            }
+        }
+        return dp - dstOff;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (Integer.SIZE - HASH_LOG);
+    }
+
+    private static int writeSequence(byte[] src, int literalOff, int literalLength, int offset, int matchLength,
+                                     byte[] dst, int dp) {
+        int tokenPosition = dp++;
+        int token;
+        if (literalLength >= RUN_MASK) {
+            token = RUN_MASK << 4;
+            dp = writeLength(literalLength - RUN_MASK, dst, dp);
+        } else {
+            token = literalLength << 4;
+        }
+        System.arraycopy(src, literalOff, dst, dp, literalLength);
+        dp += literalLength;
+        dst[dp++] = (byte) offset;
+        dst[dp++] = (byte) (offset >>> 8);
+        int extraMatchLength = matchLength - MIN_MATCH;
+        if (extraMatchLength >= RUN_MASK) {
+            token |= RUN_MASK;
+            dp = writeLength(extraMatchLength - RUN_MASK, dst, dp);
+        } else {
+            token |= extraMatchLength;
+        }
+        dst[tokenPosition] = (byte) token;
+        return dp;
+    }
+
+    private static int writeLastLiterals(byte[] src, int literalOff, int literalLength, byte[] dst, int dp) {
+        if (literalLength >= RUN_MASK) {
+            dst[dp++] = (byte) (RUN_MASK << 4);
+            dp = writeLength(literalLength - RUN_MASK, dst, dp);
+        } else {
+            dst[dp++] = (byte) (literalLength << 4);
+        }
+        System.arraycopy(src, literalOff, dst, dp, literalLength);
+        return dp + literalLength;
+    }
+
+    private static int extraLengthBytes(int length) {
+        return length >= RUN_MASK ? (length - RUN_MASK) / 0xFF + 1 : 0;
+    }
+
+    private static int writeLength(int length, byte[] dst, int dp) {
+        while (length >= 0xFF) {
+            dst[dp++] = (byte) 0xFF;
+            length -= 0xFF;
+        }
+        dst[dp++] = (byte) length;
+        return dp;
+    }
+
+    // run lengths are checked while they accumulate, so a long run of 0xFF can neither overflow nor overrun the output
+    private static void insureInBounds(boolean condition) throws IOException {
+        if (!condition) {
+            throw new IOException("Malformed compressed block: corrupt block");
+        }
+    }
+}
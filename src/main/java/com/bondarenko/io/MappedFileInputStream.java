@@ -0,0 +1,152 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedFileInputStream extends InputStream {
+    private static final int DEFAULT_WINDOW_SIZE = 256 * 1024 * 1024;
+    private final FileChannel channel;
+    private final long length;
+    private final int windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+    private boolean isClosed = false;
+
+    public MappedFileInputStream(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedFileInputStream(Path path, int windowSize) throws IOException {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Incorrect window size: " + windowSize + ", should be more than 0");
+        }
+        this.windowSize = windowSize;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.length = channel.size();
+    }
+
+    @Override
+    public int read() throws IOException {
+        insureStreamIsNotClosed();
+        if (position >= length) {
+            return -1;
+        }
+        ByteBuffer mapped = windowAt(position);
+        return mapped.get((int) (position++ - windowStart)) & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] array, int off, int length) throws IOException {
+        int readBytes = read(position, array, off, length);
+        if (readBytes > 0) {
+            position += readBytes;
+        }
+        return readBytes;
+    }
+
+    public int read(long position, byte[] array, int off, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, off, length);
+        if (position < 0) {
+            throw new IllegalArgumentException("Position can`t be less than zero: " + position);
+        }
+        if (length == 0) {
+            return 0;
+        }
+        if (position >= this.length) {
+            return -1;
+        }
+        int readBytes = (int) Math.min(length, this.length - position);
+        int copiedBytes = 0;
+        while (copiedBytes < readBytes) {
+            long current = position + copiedBytes;
+            ByteBuffer mapped = windowAt(current);
+            int windowIndex = (int) (current - windowStart);
+            int bytes = Math.min(readBytes - copiedBytes, mapped.capacity() - windowIndex);
+            mapped.get(windowIndex, array, off + copiedBytes, bytes);
+            copiedBytes += bytes;
+        }
+        return readBytes;
+    }
+
+    public ByteBuffer slice(long position, int length) throws IOException {
+        insureStreamIsNotClosed();
+        if (position < 0 || length < 0 || position + length > this.length) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Position+length can`t be more than " + this.length);
+        }
+        if (window != null && position >= windowStart && position + length <= windowStart + window.capacity()) {
+            return window.slice((int) (position - windowStart), length).asReadOnlyBuffer();
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        insureStreamIsNotClosed();
+        if (n <= 0) {
+            return 0;
+        }
+        long skippedBytes = Math.min(n, length - position);
+        position += skippedBytes;
+        return skippedBytes;
+    }
+
+    @Override
+    public int available() throws IOException {
+        insureStreamIsNotClosed();
+        return (int) Math.min(Integer.MAX_VALUE, length - position);
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public void position(long newPosition) {
+        if (newPosition < 0 || newPosition > length) {
+            throw new IllegalArgumentException("Position should be between 0 and " + length + ": " + newPosition);
+        }
+        position = newPosition;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        window = null;
+        channel.close();
+    }
+
+    private ByteBuffer windowAt(long position) throws IOException {
+        if (window == null || position < windowStart || position >= windowStart + window.capacity()) {
+            windowStart = position - position % windowSize;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(windowSize, length - windowStart));
+        }
+        return window;
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The input stream has been closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int off, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (off < 0 || length < 0 || length > array.length - off) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Length can`t be more than " + (array.length - off));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// bytes live in direct memory chunks, so large payloads stay out of the heap; close() hands the chunks back to the pool,
+// streams built without one share a process wide pool; a stream that becomes unreachable without close() is counted
+// as leaked, its chunks are then freed by the garbage collector instead of the pool
+public class OffHeapByteArrayOutputStream extends OutputStream {
+    private static final int DEFAULT_CHUNK_CAPACITY = 1 << 20;
+    private static final int MAX_GATHERED_CHUNKS = 64;
+    static final DirectBufferPool SHARED_BUFFER_POOL = new DirectBufferPool();
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final LongAdder LEAKED_STREAMS = new LongAdder();
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private final int chunkCapacity;
+    private final DirectBufferPool bufferPool;
+    private final LeakDetector leakDetector = new LeakDetector();
+    private final Cleaner.Cleanable cleanable;
+    private ByteBuffer currentChunk;
+    private long size;
+    private boolean isClosed = false;
+
+    public OffHeapByteArrayOutputStream() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public OffHeapByteArrayOutputStream(int chunkCapacity) {
+        this(chunkCapacity, SHARED_BUFFER_POOL);
+    }
+
+    public OffHeapByteArrayOutputStream(int chunkCapacity, DirectBufferPool bufferPool) {
+        if (chunkCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect chunk size: " + chunkCapacity + ", should be more than 0");
+        }
+        if (bufferPool == null) {
+            throw new NullPointerException("bufferPool is null");
+        }
+        this.chunkCapacity = chunkCapacity;
+        this.bufferPool = bufferPool;
+        this.cleanable = CLEANER.register(this, leakDetector);
+    }
+
+    public static long getLeakedStreamCount() {
+        return LEAKED_STREAMS.sum();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        insureStreamIsNotClosed();
+        if (currentChunk == null || !currentChunk.hasRemaining()) {
+            addChunk();
+        }
+        currentChunk.put((byte) b);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] array, int off, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, off, length);
+        while (length > 0) {
+            if (currentChunk == null || !currentChunk.hasRemaining()) {
+                addChunk();
+            }
+            int copiedBytes = Math.min(currentChunk.remaining(), length);
+            currentChunk.put(array, off, copiedBytes);
+            off += copiedBytes;
+            length -= copiedBytes;
+            size += copiedBytes;
+        }
+    }
+
+    public long writeTo(WritableByteChannel channel) throws IOException {
+        insureStreamIsNotClosed();
+        ByteBuffer[] byteBuffers = toByteBuffers();
+        if (channel instanceof GatheringByteChannel) {
+            GatheringByteChannel gatheringChannel = (GatheringByteChannel) channel;
+            for (int offset = 0; offset < byteBuffers.length; ) {
+                int length = Math.min(MAX_GATHERED_CHUNKS, byteBuffers.length - offset);
+                gatheringChannel.write(byteBuffers, offset, length);
+                while (offset < byteBuffers.length && !byteBuffers[offset].hasRemaining()) {
+                    offset++;
+                }
+            }
+        } else {
+            for (ByteBuffer byteBuffer : byteBuffers) {
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+            }
+        }
+        return size;
+    }
+
+    public long writeTo(OutputStream outputStream) throws IOException {
+        insureStreamIsNotClosed();
+        WritableByteChannel channel = StreamChannels.writableChannelOf(outputStream);
+        if (channel != null) {
+            return writeTo(channel);
+        }
+        byte[] array = new byte[Math.min(chunkCapacity, 8192)];
+        for (ByteBuffer byteBuffer : toByteBuffers()) {
+            while (byteBuffer.hasRemaining()) {
+                int bytes = Math.min(byteBuffer.remaining(), array.length);
+                byteBuffer.get(array, 0, bytes);
+                outputStream.write(array, 0, bytes);
+            }
+        }
+        return size;
+    }
+
+    public ByteBuffer[] toByteBuffers() {
+        ByteBuffer[] byteBuffers = new ByteBuffer[chunks.size()];
+        for (int i = 0; i < byteBuffers.length; i++) {
+            byteBuffers[i] = chunks.get(i).duplicate().flip().asReadOnlyBuffer();
+        }
+        return byteBuffers;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        leakDetector.isClosed = true;
+        cleanable.clean();
+        for (ByteBuffer chunk : chunks) {
+            bufferPool.release(chunk);
+        }
+        chunks.clear();
+        currentChunk = null;
+    }
+
+    private void addChunk() {
+        currentChunk = bufferPool.acquire(chunkCapacity);
+        chunks.add(currentChunk);
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The output stream is closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int off, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (off < 0 || length < 0 || length + off > array.length) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Length+off can`t be more than " + array.length);
+        }
+    }
+
+    private static final class LeakDetector implements Runnable {
+        private volatile boolean isClosed;
+
+        @Override
+        public void run() {
+            if (!isClosed) {
+                LEAKED_STREAMS.increment();
+            }
+        }
+    }
+}
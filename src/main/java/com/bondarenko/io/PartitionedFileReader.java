@@ -0,0 +1,134 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// every partition except the last one ends right after a delimiter, so no record is split between two partitions
+public class PartitionedFileReader implements AutoCloseable {
+    private static final long DEFAULT_PARTITION_SIZE = 64L << 20;
+    private static final int DEFAULT_BUFFER_CAPACITY = 64 * 1024;
+    private static final int SCAN_BUFFER_CAPACITY = 8192;
+    private final FileChannel channel;
+    private final byte delimiter;
+    private final long partitionSize;
+    private final int bufferCapacity;
+    private final long length;
+
+    public PartitionedFileReader(Path file, byte delimiter) throws IOException {
+        this(file, delimiter, DEFAULT_PARTITION_SIZE, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    public PartitionedFileReader(Path file, byte delimiter, long partitionSize, int bufferCapacity) throws IOException {
+        if (partitionSize <= 0) {
+            throw new IllegalArgumentException("Incorrect partition size: " + partitionSize + ", should be more than 0");
+        }
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + bufferCapacity + ", should be more than 0");
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.delimiter = delimiter;
+        this.partitionSize = partitionSize;
+        this.bufferCapacity = bufferCapacity;
+        this.length = channel.size();
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public Spliterator<FilePartition> spliterator() {
+        return new PartitionSpliterator(0, length);
+    }
+
+    public Stream<FilePartition> partitions() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // the position right after the first delimiter at or after the given position, or the end of the file
+    long alignToRecord(long position) throws IOException {
+        if (position <= 0) {
+            return 0;
+        }
+        ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_BUFFER_CAPACITY);
+        long scanPosition = position - 1;
+        while (scanPosition < length) {
+            scanBuffer.clear();
+            int bytes = channel.read(scanBuffer, scanPosition);
+            if (bytes <= 0) {
+                break;
+            }
+            int found = ByteScanner.indexOf(scanBuffer.array(), 0, bytes, delimiter);
+            if (found != -1) {
+                return scanPosition + found + 1;
+            }
+            scanPosition += bytes;
+        }
+        return length;
+    }
+
+    private class PartitionSpliterator implements Spliterator<FilePartition> {
+        private long origin;
+        private final long fence;
+
+        private PartitionSpliterator(long origin, long fence) {
+            this.origin = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super FilePartition> action) {
+            if (origin >= fence) {
+                return false;
+            }
+            long end = Math.min(fence, align(origin + partitionSize));
+            action.accept(new FilePartition(channel, origin, end, bufferCapacity));
+            origin = end;
+            return true;
+        }
+
+        @Override
+        public Spliterator<FilePartition> trySplit() {
+            if (fence - origin <= partitionSize) {
+                return null;
+            }
+            long middle = align(origin + (fence - origin) / 2);
+            if (middle <= origin || middle >= fence) {
+                return null;
+            }
+            PartitionSpliterator prefix = new PartitionSpliterator(origin, middle);
+            origin = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (fence - origin + partitionSize - 1) / partitionSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE | DISTINCT;
+        }
+
+        private long align(long position) {
+            try {
+                return alignToRecord(position);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
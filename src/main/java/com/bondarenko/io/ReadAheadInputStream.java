@@ -0,0 +1,186 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+
+public class ReadAheadInputStream extends InputStream {
+    private static final int DEFAULT_BUFFER_CAPACITY = 8192;
+    private static final int DEFAULT_PREFETCH_DEPTH = 2;
+    private final InputStream inputStream;
+    private final BlockingQueue<byte[]> freeBuffers;
+    private final BlockingQueue<Chunk> filledChunks;
+    private final Thread readerThread;
+    private Chunk current;
+    private int index;
+    private boolean isEndOfStream;
+    private IOException readException;
+    private volatile boolean isClosed = false;
+
+    public ReadAheadInputStream(InputStream inputStream) {
+        this(inputStream, DEFAULT_BUFFER_CAPACITY, DEFAULT_PREFETCH_DEPTH);
+    }
+
+    public ReadAheadInputStream(InputStream inputStream, int customCapacity, int prefetchDepth) {
+        this(inputStream, customCapacity, prefetchDepth, DaemonThreads.factory("read-ahead"));
+    }
+
+    public ReadAheadInputStream(InputStream inputStream, int customCapacity, int prefetchDepth, ThreadFactory threadFactory) {
+        if (customCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity + ", should be more than 0");
+        }
+        if (prefetchDepth <= 0) {
+            throw new IllegalArgumentException("Incorrect prefetch depth: " + prefetchDepth + ", should be more than 0");
+        }
+        this.inputStream = inputStream;
+        this.freeBuffers = new ArrayBlockingQueue<>(prefetchDepth + 1);
+        this.filledChunks = new ArrayBlockingQueue<>(prefetchDepth + 1);
+        for (int i = 0; i <= prefetchDepth; i++) {
+            freeBuffers.add(new byte[customCapacity]);
+        }
+        this.readerThread = threadFactory.newThread(this::readAhead);
+        readerThread.start();
+    }
+
+    @Override
+    public int read() throws IOException {
+        insureStreamIsNotClosed();
+        if (!nextChunk()) {
+            return -1;
+        }
+        return current.buffer[index++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] array, int off, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, off, length);
+        if (length == 0) {
+            return 0;
+        }
+        if (!nextChunk()) {
+            return -1;
+        }
+        int copiedBytes = 0;
+        do {
+            int bytes = Math.min(current.count - index, length - copiedBytes);
+            System.arraycopy(current.buffer, index, array, off + copiedBytes, bytes);
+            index += bytes;
+            copiedBytes += bytes;
+        } while (copiedBytes < length && !filledChunks.isEmpty() && nextChunkAfterCopy());
+        return copiedBytes;
+    }
+
+    @Override
+    public int available() throws IOException {
+        insureStreamIsNotClosed();
+        return current == null ? 0 : current.count - index;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        readerThread.interrupt();
+        inputStream.close();
+    }
+
+    private void readAhead() {
+        try {
+            while (!isClosed) {
+                byte[] buffer = freeBuffers.take();
+                Chunk chunk;
+                try {
+                    chunk = new Chunk(buffer, inputStream.read(buffer), null);
+                } catch (IOException e) {
+                    chunk = new Chunk(buffer, -1, e);
+                }
+                filledChunks.put(chunk);
+                if (chunk.count == -1) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean nextChunk() throws IOException {
+        if (current != null && index < current.count) {
+            return true;
+        }
+        if (readException != null) {
+            throw readException;
+        }
+        while (!isEndOfStream) {
+            if (current != null) {
+                freeBuffers.add(current.buffer);
+                current = null;
+            }
+            Chunk chunk = takeChunk();
+            if (chunk.exception != null) {
+                readException = chunk.exception;
+                throw readException;
+            }
+            if (chunk.count == -1) {
+                isEndOfStream = true;
+            } else if (chunk.count > 0) {
+                current = chunk;
+                index = 0;
+                return true;
+            } else {
+                freeBuffers.add(chunk.buffer);
+            }
+        }
+        return false;
+    }
+
+    // the bytes already copied must reach the caller, a failure stays in readException and is thrown by the next call
+    private boolean nextChunkAfterCopy() {
+        try {
+            return nextChunk();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Chunk takeChunk() throws IOException {
+        try {
+            return filledChunks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for read-ahead buffer");
+        }
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The input stream has been closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int off, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (off < 0 || length < 0 || length > array.length - off) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Length can`t be more than " + (array.length - off));
+        }
+    }
+
+    private static final class Chunk {
+        private final byte[] buffer;
+        private final int count;
+        private final IOException exception;
+
+        private Chunk(byte[] buffer, int count, IOException exception) {
+            this.buffer = buffer;
+            this.count = count;
+            this.exception = exception;
+        }
+    }
+}
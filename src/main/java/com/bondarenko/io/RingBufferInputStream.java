@@ -0,0 +1,90 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public class RingBufferInputStream extends InputStream {
+    private static final int DEFAULT_BUFFER_CAPACITY = 64 * 1024;
+    final SpscRingBuffer ringBuffer;
+    boolean isConnected = false;
+    private long readPosition;
+    private long cachedWritePosition;
+    private boolean isClosed = false;
+
+    public RingBufferInputStream() {
+        this(DEFAULT_BUFFER_CAPACITY);
+    }
+
+    public RingBufferInputStream(int customCapacity) {
+        this.ringBuffer = new SpscRingBuffer(customCapacity);
+    }
+
+    @Override
+    public int read() throws IOException {
+        insureStreamIsNotClosed();
+        if (readPosition == cachedWritePosition && !awaitData()) {
+            return -1;
+        }
+        int b = ringBuffer.buffer[(int) readPosition & ringBuffer.mask] & 0xFF;
+        ringBuffer.publishRead(++readPosition);
+        return b;
+    }
+
+    @Override
+    public int read(byte[] array, int off, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, off, length);
+        if (length == 0) {
+            return 0;
+        }
+        if (cachedWritePosition - readPosition < length) {
+            cachedWritePosition = ringBuffer.writePosition();
+        }
+        if (readPosition == cachedWritePosition && !awaitData()) {
+            return -1;
+        }
+        int copiedBytes = (int) Math.min(cachedWritePosition - readPosition, length);
+        int start = (int) readPosition & ringBuffer.mask;
+        int firstPart = Math.min(copiedBytes, ringBuffer.buffer.length - start);
+        System.arraycopy(ringBuffer.buffer, start, array, off, firstPart);
+        System.arraycopy(ringBuffer.buffer, 0, array, off + firstPart, copiedBytes - firstPart);
+        readPosition += copiedBytes;
+        ringBuffer.publishRead(readPosition);
+        return copiedBytes;
+    }
+
+    @Override
+    public int available() throws IOException {
+        insureStreamIsNotClosed();
+        return (int) (ringBuffer.writePosition() - readPosition);
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+        ringBuffer.closeReader();
+    }
+
+    private boolean awaitData() throws IOException {
+        long writePosition = ringBuffer.awaitData(readPosition);
+        if (writePosition == -1) {
+            return false;
+        }
+        cachedWritePosition = writePosition;
+        return true;
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The input stream has been closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int off, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (off < 0 || length < 0 || length > array.length - off) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Length can`t be more than " + (array.length - off));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// the writer half of a pipe: exactly one thread writes here while exactly one thread reads the connected input stream
+public class RingBufferOutputStream extends OutputStream {
+    private final SpscRingBuffer ringBuffer;
+    private long writePosition;
+    private long cachedReadPosition;
+    private boolean isClosed = false;
+
+    public RingBufferOutputStream(RingBufferInputStream inputStream) {
+        synchronized (inputStream) {
+            if (inputStream.isConnected) {
+                throw new IllegalStateException("The input stream is already connected");
+            }
+            inputStream.isConnected = true;
+        }
+        this.ringBuffer = inputStream.ringBuffer;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        insureStreamIsNotClosed();
+        if (writePosition - cachedReadPosition == ringBuffer.buffer.length) {
+            cachedReadPosition = ringBuffer.awaitSpace(writePosition);
+        }
+        ringBuffer.buffer[(int) writePosition & ringBuffer.mask] = (byte) b;
+        ringBuffer.publishWrite(++writePosition);
+    }
+
+    @Override
+    public void write(byte[] array, int offset, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, offset, length);
+        while (length > 0) {
+            int freeBytes = (int) (ringBuffer.buffer.length - (writePosition - cachedReadPosition));
+            if (freeBytes < length) {
+                cachedReadPosition = ringBuffer.readPosition();
+                freeBytes = (int) (ringBuffer.buffer.length - (writePosition - cachedReadPosition));
+            }
+            if (freeBytes == 0) {
+                cachedReadPosition = ringBuffer.awaitSpace(writePosition);
+                continue;
+            }
+            int copiedBytes = Math.min(freeBytes, length);
+            int start = (int) writePosition & ringBuffer.mask;
+            int firstPart = Math.min(copiedBytes, ringBuffer.buffer.length - start);
+            System.arraycopy(array, offset, ringBuffer.buffer, start, firstPart);
+            System.arraycopy(array, offset + firstPart, ringBuffer.buffer, 0, copiedBytes - firstPart);
+            writePosition += copiedBytes;
+            ringBuffer.publishWrite(writePosition);
+            offset += copiedBytes;
+            length -= copiedBytes;
+        }
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+        ringBuffer.closeWriter();
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The output stream is closed");
+        }
+        ringBuffer.insureReaderIsOpen();
+    }
+
+    private void validateParameters(byte[] array, int off, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (off < 0 || length < 0 || length + off > array.length) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Length+off can`t be more than " + array.length);
+        }
+    }
+}
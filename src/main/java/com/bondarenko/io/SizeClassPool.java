@@ -0,0 +1,107 @@
+package com.bondarenko.io;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+// power of two size classes, each split into stripes picked by the calling thread to keep the queues uncontended;
+// a request is rounded up to its size class, requests above the top class get an exact, unpooled buffer
+final class SizeClassPool<T> {
+    private static final int MAX_POOLED_CAPACITY = 1 << 30;
+    private final int maxBufferCapacity;
+    private final int maxSizeClass;
+    private final long maxRetainedBytes;
+    private final IntFunction<T> allocator;
+    private final ToIntFunction<T> capacityOf;
+    private final int stripeCount;
+    private final int stripeMask;
+    private final List<ConcurrentLinkedQueue<T>> stripes;
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    SizeClassPool(int maxBufferCapacity, long maxRetainedBytes, IntFunction<T> allocator, ToIntFunction<T> capacityOf) {
+        if (maxBufferCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect max buffer size: " + maxBufferCapacity + ", should be more than 0");
+        }
+        if (maxRetainedBytes < 0) {
+            throw new IllegalArgumentException("Incorrect max retained bytes: " + maxRetainedBytes + ", can`t be less than 0");
+        }
+        this.maxBufferCapacity = Math.min(maxBufferCapacity, MAX_POOLED_CAPACITY);
+        this.maxSizeClass = sizeClassOf(this.maxBufferCapacity);
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.allocator = allocator;
+        this.capacityOf = capacityOf;
+        this.stripeCount = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+        this.stripeMask = stripeCount - 1;
+        int queueCount = (maxSizeClass + 1) * stripeCount;
+        this.stripes = new ArrayList<>(queueCount);
+        for (int i = 0; i < queueCount; i++) {
+            stripes.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    T acquire(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + capacity + ", should be more than 0");
+        }
+        if (capacity > maxBufferCapacity) {
+            misses.increment();
+            return allocator.apply(capacity);
+        }
+        int sizeClass = sizeClassOf(capacity);
+        int stripe = currentStripe();
+        for (int i = 0; i < stripeCount; i++) {
+            T buffer = stripes.get(sizeClass * stripeCount + ((stripe + i) & stripeMask)).poll();
+            if (buffer != null) {
+                retainedBytes.addAndGet(-capacityOf.applyAsInt(buffer));
+                hits.increment();
+                return buffer;
+            }
+        }
+        misses.increment();
+        return allocator.apply(1 << sizeClass);
+    }
+
+    void release(T buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer is null");
+        }
+        int capacity = capacityOf.applyAsInt(buffer);
+        if (Integer.bitCount(capacity) != 1 || sizeClassOf(capacity) > maxSizeClass) {
+            return;
+        }
+        long retained;
+        do {
+            retained = retainedBytes.get();
+            if (retained + capacity > maxRetainedBytes) {
+                return;
+            }
+        } while (!retainedBytes.compareAndSet(retained, retained + capacity));
+        stripes.get(sizeClassOf(capacity) * stripeCount + currentStripe()).offer(buffer);
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    private int currentStripe() {
+        return (int) Thread.currentThread().getId() & stripeMask;
+    }
+
+    private static int sizeClassOf(int capacity) {
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1);
+    }
+}
@@ -0,0 +1,158 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// keeps bytes on heap up to the threshold, then moves them to a temp file that is deleted on close;
+// readers see the bytes written before they were opened, so open them after writing is done
+public class SpillingByteArrayOutputStream extends OutputStream {
+    private static final int DEFAULT_SPILL_THRESHOLD = 1 << 20;
+    private static final int DEFAULT_BUFFER_CAPACITY = 1028;
+    private final int spillThreshold;
+    private final Path directory;
+    private ByteArrayOutputStream memoryOutputStream;
+    private BufferedChannelOutputStream fileOutputStream;
+    private Path file;
+    private long size;
+    private boolean isClosed = false;
+
+    public SpillingByteArrayOutputStream() {
+        this(DEFAULT_SPILL_THRESHOLD);
+    }
+
+    public SpillingByteArrayOutputStream(int spillThreshold) {
+        this(spillThreshold, null);
+    }
+
+    public SpillingByteArrayOutputStream(int spillThreshold, Path directory) {
+        if (spillThreshold < 0) {
+            throw new IllegalArgumentException("Incorrect spill threshold: " + spillThreshold + ", should not be less than 0");
+        }
+        this.spillThreshold = spillThreshold;
+        this.directory = directory;
+        this.memoryOutputStream = new ByteArrayOutputStream(Math.max(1, Math.min(spillThreshold, DEFAULT_BUFFER_CAPACITY)));
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        insureStreamIsNotClosed();
+        currentOutputStream(1).write(b);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] array, int off, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, off, length);
+        currentOutputStream(length).write(array, off, length);
+        size += length;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        insureStreamIsNotClosed();
+        if (fileOutputStream != null) {
+            fileOutputStream.flush();
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isInMemory() {
+        return file == null;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public InputStream toInputStream() throws IOException {
+        insureStreamIsNotClosed();
+        if (isInMemory()) {
+            return memoryOutputStream.toInputStream();
+        }
+        fileOutputStream.flush();
+        return new BufferedChannelInputStream(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    // maps the spilled file instead of reading it through a buffer, in-memory bytes are shared as they are
+    public InputStream toMappedInputStream() throws IOException {
+        insureStreamIsNotClosed();
+        if (isInMemory()) {
+            return memoryOutputStream.toInputStream();
+        }
+        fileOutputStream.flush();
+        return new MappedFileInputStream(file);
+    }
+
+    public long writeTo(OutputStream outputStream) throws IOException {
+        insureStreamIsNotClosed();
+        if (isInMemory()) {
+            memoryOutputStream.writeTo(outputStream);
+            return size;
+        }
+        try (InputStream inputStream = toInputStream()) {
+            return inputStream.transferTo(outputStream);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        memoryOutputStream = null;
+        if (fileOutputStream != null) {
+            try {
+                fileOutputStream.close();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private OutputStream currentOutputStream(int length) throws IOException {
+        if (fileOutputStream == null && size + length > spillThreshold) {
+            spill();
+        }
+        return fileOutputStream == null ? memoryOutputStream : fileOutputStream;
+    }
+
+    private void spill() throws IOException {
+        file = directory == null
+                ? Files.createTempFile("spill", ".tmp")
+                : Files.createTempFile(directory, "spill", ".tmp");
+        try {
+            fileOutputStream = new BufferedChannelOutputStream(FileChannel.open(file, StandardOpenOption.WRITE));
+            memoryOutputStream.writeTo(fileOutputStream);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            file = null;
+            fileOutputStream = null;
+            throw e;
+        }
+        memoryOutputStream = null;
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The output stream is closed");
+        }
+    }
+
+    private void validateParameters(byte[] array, int off, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (off < 0 || length < 0 || length + off > array.length) {
+            throw new IndexOutOfBoundsException("Position or length can`t be less than zero. Length+off can`t be more than " + array.length);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// single producer, single consumer: each side owns its position and only publishes it, the positions sit
+// two cache lines apart in one array so the producer and the consumer never write to the same line
+final class SpscRingBuffer {
+    private static final int PADDING = 16;
+    private static final int WRITE_POSITION = PADDING;
+    private static final int READ_POSITION = 2 * PADDING;
+    private static final VarHandle WAITING_READER;
+    private static final VarHandle WAITING_WRITER;
+    private static final boolean IS_MULTIPROCESSOR = Runtime.getRuntime().availableProcessors() > 1;
+    private static final int SPIN_LIMIT = IS_MULTIPROCESSOR ? 256 : 4;
+    final byte[] buffer;
+    final int mask;
+    private final AtomicLongArray positions = new AtomicLongArray(3 * PADDING);
+    private volatile Thread waitingReader;
+    private volatile Thread waitingWriter;
+    private volatile boolean isWriterClosed = false;
+    private volatile boolean isReaderClosed = false;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            WAITING_READER = lookup.findVarHandle(SpscRingBuffer.class, "waitingReader", Thread.class);
+            WAITING_WRITER = lookup.findVarHandle(SpscRingBuffer.class, "waitingWriter", Thread.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    SpscRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + capacity + ", should be between 1 and " + (1 << 30));
+        }
+        this.buffer = new byte[1 << (32 - Integer.numberOfLeadingZeros(capacity - 1))];
+        this.mask = buffer.length - 1;
+    }
+
+    long writePosition() {
+        return positions.get(WRITE_POSITION);
+    }
+
+    long readPosition() {
+        return positions.get(READ_POSITION);
+    }
+
+    void publishWrite(long writePosition) {
+        positions.set(WRITE_POSITION, writePosition);
+        wakeUp(WAITING_READER);
+    }
+
+    void publishRead(long readPosition) {
+        positions.set(READ_POSITION, readPosition);
+        wakeUp(WAITING_WRITER);
+    }
+
+    // returns the read position once at least one byte of space is free
+    long awaitSpace(long writePosition) throws IOException {
+        for (int spins = 0; ; spins++) {
+            insureReaderIsOpen();
+            long readPosition = readPosition();
+            if (writePosition - readPosition < buffer.length) {
+                return readPosition;
+            }
+            if (spins < SPIN_LIMIT) {
+                backOff();
+                continue;
+            }
+            waitingWriter = Thread.currentThread();
+            if (writePosition - readPosition() == buffer.length && !isReaderClosed) {
+                LockSupport.park(this);
+            }
+            waitingWriter = null;
+            insureNotInterrupted();
+        }
+    }
+
+    // returns the write position once at least one byte is available, or -1 when the writer is closed and nothing is left
+    long awaitData(long readPosition) throws IOException {
+        for (int spins = 0; ; spins++) {
+            long writePosition = writePosition();
+            if (writePosition != readPosition) {
+                return writePosition;
+            }
+            if (isWriterClosed) {
+                writePosition = writePosition();
+                return writePosition != readPosition ? writePosition : -1;
+            }
+            if (spins < SPIN_LIMIT) {
+                backOff();
+                continue;
+            }
+            waitingReader = Thread.currentThread();
+            if (writePosition() == readPosition && !isWriterClosed) {
+                LockSupport.park(this);
+            }
+            waitingReader = null;
+            insureNotInterrupted();
+        }
+    }
+
+    void closeWriter() {
+        isWriterClosed = true;
+        wakeUp(WAITING_READER);
+    }
+
+    void closeReader() {
+        isReaderClosed = true;
+        wakeUp(WAITING_WRITER);
+    }
+
+    // spinning only helps when the other side runs on another core, a single core is handed over instead
+    private static void backOff() {
+        if (IS_MULTIPROCESSOR) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    }
+
+    // only the first publish after the other side parked pays for the unpark
+    private void wakeUp(VarHandle waitingThread) {
+        Thread thread = (Thread) waitingThread.getVolatile(this);
+        if (thread != null && waitingThread.compareAndSet(this, thread, null)) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    void insureReaderIsOpen() throws IOException {
+        if (isReaderClosed) {
+            throw new IOException("The pipe has been closed by the reader");
+        }
+    }
+
+    private void insureNotInterrupted() throws InterruptedIOException {
+        if (Thread.interrupted()) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting on the pipe");
+        }
+    }
+}
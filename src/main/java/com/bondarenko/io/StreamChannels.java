@@ -0,0 +1,71 @@
+package com.bondarenko.io;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+final class StreamChannels {
+
+    private StreamChannels() {
+    }
+
+    static FileChannel fileChannelOf(InputStream inputStream) {
+        return inputStream instanceof FileInputStream ? ((FileInputStream) inputStream).getChannel() : null;
+    }
+
+    static FileChannel fileChannelOf(OutputStream outputStream) {
+        if (outputStream instanceof FileOutputStream) {
+            return ((FileOutputStream) outputStream).getChannel();
+        }
+        if (outputStream instanceof BufferedChannelOutputStream
+                && ((BufferedChannelOutputStream) outputStream).getChannel() instanceof FileChannel) {
+            return (FileChannel) ((BufferedChannelOutputStream) outputStream).getChannel();
+        }
+        return null;
+    }
+
+    static WritableByteChannel writableChannelOf(OutputStream outputStream) throws IOException {
+        if (outputStream instanceof FileOutputStream) {
+            return ((FileOutputStream) outputStream).getChannel();
+        }
+        if (outputStream instanceof BufferedChannelOutputStream) {
+            BufferedChannelOutputStream channelOutputStream = (BufferedChannelOutputStream) outputStream;
+            channelOutputStream.flush();
+            return channelOutputStream.getChannel();
+        }
+        return null;
+    }
+
+    static long transfer(FileChannel source, WritableByteChannel target) throws IOException {
+        long position = source.position();
+        long size = source.size();
+        long transferred = 0;
+        while (position < size) {
+            long bytes = source.transferTo(position, size - position, target);
+            if (bytes <= 0) {
+                break;
+            }
+            position += bytes;
+            transferred += bytes;
+        }
+        source.position(position);
+        return transferred;
+    }
+
+    static long transfer(ReadableByteChannel source, FileChannel target) throws IOException {
+        long position = target.position();
+        long transferred = 0;
+        long bytes;
+        while ((bytes = target.transferFrom(source, position, Integer.MAX_VALUE)) > 0) {
+            position += bytes;
+            transferred += bytes;
+        }
+        target.position(position);
+        return transferred;
+    }
+}
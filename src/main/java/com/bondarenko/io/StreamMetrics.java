@@ -0,0 +1,134 @@
+package com.bondarenko.io;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class StreamMetrics implements StreamMetricsListener {
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder bufferHits = new LongAdder();
+    private final LongAdder bufferMisses = new LongAdder();
+    private final LongAdder fills = new LongAdder();
+    private final LongAdder bytesFilled = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder bytesFlushed = new LongAdder();
+    private final LongAdder bypassReads = new LongAdder();
+    private final LongAdder bypassWrites = new LongAdder();
+    private final LongAdder bypassBytes = new LongAdder();
+    private final LongAdder growCount = new LongAdder();
+    private final LongAdder bytesRecopied = new LongAdder();
+    private final LatencyHistogram fillLatency = new LatencyHistogram();
+    private final LatencyHistogram flushLatency = new LatencyHistogram();
+
+    @Override
+    public void onRead(int reads, long bytes, boolean isBufferHit) {
+        bytesRead.add(bytes);
+        if (isBufferHit) {
+            bufferHits.add(reads);
+        } else {
+            bufferMisses.add(reads);
+        }
+    }
+
+    @Override
+    public void onWrite(int writes, long bytes) {
+        bytesWritten.add(bytes);
+    }
+
+    @Override
+    public void onFill(int bytes, long nanos) {
+        fills.increment();
+        bytesFilled.add(bytes);
+        fillLatency.record(nanos);
+    }
+
+    @Override
+    public void onFlush(int bytes, long nanos) {
+        flushes.increment();
+        bytesFlushed.add(bytes);
+        flushLatency.record(nanos);
+    }
+
+    @Override
+    public void onBypassRead(int bytes) {
+        bypassReads.increment();
+        bypassBytes.add(bytes);
+    }
+
+    @Override
+    public void onBypassWrite(int bytes) {
+        bypassWrites.increment();
+        bypassBytes.add(bytes);
+    }
+
+    @Override
+    public void onGrow(int oldCapacity, int newCapacity, int copiedBytes) {
+        growCount.increment();
+        bytesRecopied.add(copiedBytes);
+    }
+
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    public long getBufferHits() {
+        return bufferHits.sum();
+    }
+
+    public long getBufferMisses() {
+        return bufferMisses.sum();
+    }
+
+    public double getHitRatio() {
+        long hits = bufferHits.sum();
+        long total = hits + bufferMisses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public long getUnderlyingReads() {
+        return fills.sum() + bypassReads.sum();
+    }
+
+    public long getUnderlyingWrites() {
+        return flushes.sum() + bypassWrites.sum();
+    }
+
+    public long getBytesFilled() {
+        return bytesFilled.sum();
+    }
+
+    public long getBytesFlushed() {
+        return bytesFlushed.sum();
+    }
+
+    public long getBypassReads() {
+        return bypassReads.sum();
+    }
+
+    public long getBypassWrites() {
+        return bypassWrites.sum();
+    }
+
+    public long getBypassBytes() {
+        return bypassBytes.sum();
+    }
+
+    public long getGrowCount() {
+        return growCount.sum();
+    }
+
+    public long getBytesRecopied() {
+        return bytesRecopied.sum();
+    }
+
+    public LatencyHistogram getFillLatency() {
+        return fillLatency;
+    }
+
+    public LatencyHistogram getFlushLatency() {
+        return flushLatency;
+    }
+}
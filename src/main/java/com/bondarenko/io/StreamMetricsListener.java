@@ -0,0 +1,27 @@
+package com.bondarenko.io;
+
+// every callback is optional; streams only call the listener when one is passed to the constructor.
+// buffered streams count hits and writes in plain fields and report them in batches at fill, flush and close
+public interface StreamMetricsListener {
+
+    default void onRead(int reads, long bytes, boolean isBufferHit) {
+    }
+
+    default void onWrite(int writes, long bytes) {
+    }
+
+    default void onFill(int bytes, long nanos) {
+    }
+
+    default void onFlush(int bytes, long nanos) {
+    }
+
+    default void onBypassRead(int bytes) {
+    }
+
+    default void onBypassWrite(int bytes) {
+    }
+
+    default void onGrow(int oldCapacity, int newCapacity, int copiedBytes) {
+    }
+}
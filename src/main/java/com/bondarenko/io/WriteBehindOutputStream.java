@@ -0,0 +1,118 @@
+package com.bondarenko.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ThreadFactory;
+
+public class WriteBehindOutputStream extends OutputStream {
+    private static final int DEFAULT_BUFFER_CAPACITY = 8192;
+    private static final int DEFAULT_QUEUE_CAPACITY = 8;
+    private final BackgroundFlusher backgroundFlusher;
+    private final BackpressurePolicy backpressurePolicy;
+    private byte[] buffer;
+    private int index;
+    private boolean isClosed = false;
+
+    public WriteBehindOutputStream(OutputStream outputStream) {
+        this(outputStream, DEFAULT_BUFFER_CAPACITY, DEFAULT_QUEUE_CAPACITY, BackpressurePolicy.BLOCK);
+    }
+
+    public WriteBehindOutputStream(OutputStream outputStream, int customCapacity, int queueCapacity,
+                                   BackpressurePolicy backpressurePolicy) {
+        this(outputStream, customCapacity, queueCapacity, backpressurePolicy,
+                DaemonThreads.factory("write-behind"));
+    }
+
+    public WriteBehindOutputStream(OutputStream outputStream, int customCapacity, int queueCapacity,
+                                   BackpressurePolicy backpressurePolicy, ThreadFactory threadFactory) {
+        if (customCapacity <= 0) {
+            throw new IllegalArgumentException("Incorrect buffer size: " + customCapacity);
+        }
+        this.backpressurePolicy = backpressurePolicy;
+        this.backgroundFlusher = new BackgroundFlusher(outputStream, customCapacity, queueCapacity, threadFactory);
+        this.buffer = backgroundFlusher.newBuffer();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        insureStreamIsNotClosed();
+        if (index == buffer.length) {
+            handOffBuffer();
+        }
+        buffer[index++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] array, int offset, int length) throws IOException {
+        insureStreamIsNotClosed();
+        validateParameters(array, offset, length);
+        while (length > 0) {
+            if (index == buffer.length) {
+                handOffBuffer();
+            }
+            int copiedBytes = Math.min(buffer.length - index, length);
+            System.arraycopy(array, offset, buffer, index, copiedBytes);
+            index += copiedBytes;
+            offset += copiedBytes;
+            length -= copiedBytes;
+        }
+    }
+
+    // returns once the bytes reached the disk when the target is a file stream or a channel stream over a file,
+    // for any other target it returns once the target's own flush() returned
+    @Override
+    public void flush() throws IOException {
+        insureStreamIsNotClosed();
+        putPartialBuffer();
+        backgroundFlusher.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        try {
+            putPartialBuffer();
+            backgroundFlusher.close();
+        } finally {
+            isClosed = true;
+        }
+    }
+
+    private void handOffBuffer() throws IOException {
+        if (backpressurePolicy == BackpressurePolicy.FAIL) {
+            if (!backgroundFlusher.offer(buffer, index)) {
+                throw new IOException("Write-behind queue is full, " + backgroundFlusher.queuedBuffers()
+                        + " buffers are waiting to be flushed");
+            }
+        } else {
+            backgroundFlusher.put(buffer, index);
+        }
+        buffer = backgroundFlusher.newBuffer();
+        index = 0;
+    }
+
+    private void putPartialBuffer() throws IOException {
+        if (index > 0) {
+            backgroundFlusher.put(buffer, index);
+            buffer = backgroundFlusher.newBuffer();
+            index = 0;
+        }
+    }
+
+    private void insureStreamIsNotClosed() throws IOException {
+        if (isClosed) {
+            throw new IOException("The output stream has been closed");
+        }
+        backgroundFlusher.insureNoFlushException();
+    }
+
+    private void validateParameters(byte[] array, int offset, int length) {
+        if (array == null) {
+            throw new NullPointerException("array of bytes is null");
+        } else if (offset < 0 || length < 0 || offset + length > array.length) {
+            throw new IndexOutOfBoundsException("offset or length can`t be less than zero. Offset+length can`t be more than " + array.length);
+        }
+    }
+}
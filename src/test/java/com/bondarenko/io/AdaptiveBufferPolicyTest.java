@@ -0,0 +1,213 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveBufferPolicyTest {
+
+    @Test
+    @DisplayName("configured Bounds Are Kept Exactly")
+    public void configuredBoundsAreKeptExactly() {
+        AdaptiveBufferPolicy adaptiveBufferPolicy = new AdaptiveBufferPolicy(100, 5000);
+
+        assertEquals(100, adaptiveBufferPolicy.getMinCapacity());
+        assertEquals(5000, adaptiveBufferPolicy.getMaxCapacity());
+        assertEquals(100, adaptiveBufferPolicy.getCapacity());
+        assertEquals(3000, new AdaptiveBufferPolicy(3000, 3000).getCapacity());
+    }
+
+    @Test
+    @DisplayName("growth And Shrinking Are Clamped To Non Power Of Two Bounds")
+    public void growthAndShrinkingAreClampedToNonPowerOfTwoBounds() throws IOException {
+        List<String> resizes = new ArrayList<>();
+        AdaptiveBufferPolicy adaptiveBufferPolicy =
+                new AdaptiveBufferPolicy(100, 300, (oldCapacity, newCapacity) -> resizes.add(oldCapacity + "->" + newCapacity));
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(byteArrayOutputStream, adaptiveBufferPolicy);
+        byte[] record = new byte[90];
+        for (int i = 0; i < 200; i++) {
+            bufferedOutputStream.write(record);
+        }
+        assertEquals(300, bufferedOutputStream.getBufferCapacity());
+
+        for (int i = 0; i < 100; i++) {
+            bufferedOutputStream.write(1);
+            bufferedOutputStream.flush();
+        }
+        assertEquals(100, bufferedOutputStream.getBufferCapacity());
+        assertEquals(List.of("100->200", "200->300", "300->150", "150->100"), resizes);
+
+        bufferedOutputStream.close();
+        assertEquals(200 * 90 + 100, byteArrayOutputStream.size());
+    }
+
+    @Test
+    @DisplayName("record Reads Grow Input Buffer Up To Four Times Record Size")
+    public void recordReadsGrowInputBufferUpToFourTimesRecordSize() throws IOException {
+        List<String> resizes = new ArrayList<>();
+        AdaptiveBufferPolicy adaptiveBufferPolicy =
+                new AdaptiveBufferPolicy(64, 1024, (oldCapacity, newCapacity) -> resizes.add(oldCapacity + "->" + newCapacity));
+        byte[] content = new byte[200_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(new ByteArrayInputStream(content), adaptiveBufferPolicy);
+        byte[] actual = new byte[content.length];
+        int total = 0;
+        int read;
+        while ((read = bufferedInputStream.read(actual, total, Math.min(63, actual.length - total))) > 0) {
+            total += read;
+        }
+
+        assertArrayEquals(content, actual);
+        assertEquals(256, bufferedInputStream.getBufferCapacity());
+        assertEquals(List.of("64->128", "128->256"), resizes);
+        assertEquals(2, adaptiveBufferPolicy.getResizeCount());
+    }
+
+    @Test
+    @DisplayName("single Byte Reads Count As Requests")
+    public void singleByteReadsCountAsRequests() throws IOException {
+        AdaptiveBufferPolicy adaptiveBufferPolicy = new AdaptiveBufferPolicy(64, 1024);
+        BufferedInputStream bufferedInputStream =
+                new BufferedInputStream(new ByteArrayInputStream(new byte[200_000]), adaptiveBufferPolicy);
+        byte[] record = new byte[63];
+        while (bufferedInputStream.read(record) > 0) {
+            bufferedInputStream.read();
+            bufferedInputStream.read();
+            bufferedInputStream.read();
+        }
+
+        assertEquals(128, bufferedInputStream.getBufferCapacity());
+    }
+
+    @Test
+    @DisplayName("full Transfers Grow Buffer Only When Refilled Often")
+    public void fullTransfersGrowBufferOnlyWhenRefilledOften() {
+        AdaptiveBufferPolicy adaptiveBufferPolicy = new AdaptiveBufferPolicy(64, 1024);
+        for (int i = 0; i < 16; i++) {
+            adaptiveBufferPolicy.recordTransfer(64, 4);
+        }
+        assertEquals(64, adaptiveBufferPolicy.getCapacity());
+
+        for (int i = 0; i < 16; i++) {
+            adaptiveBufferPolicy.recordTransfer(64, 3);
+        }
+        assertEquals(128, adaptiveBufferPolicy.getCapacity());
+        assertEquals(1, adaptiveBufferPolicy.getResizeCount());
+    }
+
+    @Test
+    @DisplayName("typed Reads Count As Requests")
+    public void typedReadsCountAsRequests() throws IOException {
+        AdaptiveBufferPolicy adaptiveBufferPolicy = new AdaptiveBufferPolicy(64, 1024);
+        BufferedInputStream bufferedInputStream =
+                new BufferedInputStream(new ByteArrayInputStream(new byte[200_000]), adaptiveBufferPolicy);
+        for (int i = 0; i < 200_000 / Integer.BYTES; i++) {
+            bufferedInputStream.readInt();
+        }
+
+        assertEquals(64, bufferedInputStream.getBufferCapacity());
+        assertEquals(0, adaptiveBufferPolicy.getResizeCount());
+    }
+
+    @Test
+    @DisplayName("policy Shared By Concurrent Streams Stays Within Bounds")
+    public void policySharedByConcurrentStreamsStaysWithinBounds() throws Exception {
+        AdaptiveBufferPolicy adaptiveBufferPolicy = new AdaptiveBufferPolicy(32, 512);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                try (BufferedOutputStream bufferedOutputStream =
+                             new BufferedOutputStream(new ByteArrayOutputStream(), adaptiveBufferPolicy)) {
+                    byte[] record = new byte[100];
+                    for (int j = 0; j < 20_000; j++) {
+                        bufferedOutputStream.write(record);
+                        bufferedOutputStream.write(1);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(List.of(), failures);
+        int capacity = adaptiveBufferPolicy.getCapacity();
+        assertTrue(capacity >= 32 && capacity <= 512 && Integer.bitCount(capacity) == 1, "capacity " + capacity);
+    }
+
+    @Test
+    @DisplayName("small Source Reads Keep Input Buffer At Min Capacity")
+    public void smallSourceReadsKeepInputBufferAtMinCapacity() throws IOException {
+        InputStream tricklingInputStream = new InputStream() {
+            private int count;
+
+            @Override
+            public int read() {
+                return count++ < 1000 ? 'a' : -1;
+            }
+
+            @Override
+            public int read(byte[] array, int off, int length) {
+                int value = read();
+                if (value == -1) {
+                    return -1;
+                }
+                array[off] = (byte) value;
+                return 1;
+            }
+        };
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(tricklingInputStream,
+                new AdaptiveBufferPolicy(16, 64));
+        while (bufferedInputStream.read() != -1) {
+        }
+
+        assertEquals(16, bufferedInputStream.getBufferCapacity());
+    }
+
+    @Test
+    @DisplayName("bulk Writes Grow Output Buffer And Small Flushes Shrink It")
+    public void bulkWritesGrowOutputBuffer_andSmallFlushesShrinkIt() throws IOException {
+        AdaptiveBufferPolicy adaptiveBufferPolicy = new AdaptiveBufferPolicy(32, 512);
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(byteArrayOutputStream, adaptiveBufferPolicy);
+        byte[] record = new byte[30];
+        for (int i = 0; i < 2000; i++) {
+            bufferedOutputStream.write(record);
+        }
+        assertEquals(128, bufferedOutputStream.getBufferCapacity());
+
+        for (int i = 0; i < 100; i++) {
+            bufferedOutputStream.write(1);
+            bufferedOutputStream.flush();
+        }
+        assertEquals(32, bufferedOutputStream.getBufferCapacity());
+        assertEquals(4, adaptiveBufferPolicy.getResizeCount());
+
+        bufferedOutputStream.close();
+        assertEquals(2000 * 30 + 100, byteArrayOutputStream.size());
+    }
+
+    @Test
+    @DisplayName("when Min Capacity Is More Than Max then IllegalArgumentException Returned")
+    public void whenMinCapacityIsMoreThanMax_thenIllegalArgumentException_Returned() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AdaptiveBufferPolicy(128, 64));
+    }
+}
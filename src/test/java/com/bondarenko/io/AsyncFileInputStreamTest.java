@@ -0,0 +1,120 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncFileInputStreamTest {
+    private final byte[] content = "Hello world".getBytes();
+    private Path file;
+
+    @BeforeEach
+    public void before() throws IOException {
+        file = Files.createTempFile("async-file-input", ".txt");
+        Files.write(file, content);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("when Bytes Read One By One then File Content Returned")
+    public void whenBytesReadOneByOne_thenFileContentReturned() throws IOException {
+        try (AsyncFileInputStream inputStream = new AsyncFileInputStream(file, 4)) {
+            for (byte expected : content) {
+                assertEquals(expected, inputStream.read());
+            }
+            assertEquals(-1, inputStream.read());
+        }
+    }
+
+    @Test
+    @DisplayName("when Small Async Reads Chained then Bytes Returned In Order")
+    public void whenSmallAsyncReadsChained_thenBytesReturnedInOrder() throws Exception {
+        try (AsyncFileInputStream inputStream = new AsyncFileInputStream(file, 4)) {
+            byte[] first = new byte[3];
+            byte[] second = new byte[3];
+            CompletableFuture<Integer> firstRead = inputStream.readAsync(first, 0, 3);
+            CompletableFuture<Integer> secondRead = inputStream.readAsync(second, 0, 3);
+
+            assertEquals(3, firstRead.get(10, TimeUnit.SECONDS));
+            assertEquals(1, secondRead.get(10, TimeUnit.SECONDS));
+            assertEquals("Hel", new String(first));
+            assertEquals("l", new String(second, 0, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("when Large Async Reads Outstanding then Claimed Ranges Returned")
+    public void whenLargeAsyncReadsOutstanding_thenClaimedRangesReturned() throws Exception {
+        byte[] payload = new byte[100_000];
+        new Random(42).nextBytes(payload);
+        Files.write(file, payload);
+        byte[] result = new byte[payload.length];
+        try (AsyncFileInputStream inputStream = new AsyncFileInputStream(file, 1024)) {
+            List<CompletableFuture<Integer>> reads = new ArrayList<>();
+            for (int offset = 0; offset < payload.length; offset += 8192) {
+                reads.add(inputStream.readAsync(result, offset, Math.min(8192, payload.length - offset)));
+            }
+            int total = 0;
+            for (CompletableFuture<Integer> read : reads) {
+                total += read.get(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(payload.length, total);
+            assertEquals(-1, inputStream.readAsync(new byte[2048], 0, 2048).get(10, TimeUnit.SECONDS));
+        }
+        assertArrayEquals(payload, result);
+    }
+
+    @Test
+    @DisplayName("when All Bytes Read Blocking then File Content Returned")
+    public void whenAllBytesReadBlocking_thenFileContentReturned() throws IOException {
+        try (AsyncFileInputStream inputStream = new AsyncFileInputStream(file, 4)) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("when Stream Closed then Async Read Fails")
+    public void whenStreamClosed_thenAsyncReadFails() throws IOException {
+        AsyncFileInputStream inputStream = new AsyncFileInputStream(file);
+        inputStream.close();
+
+        assertTrue(inputStream.readAsync(new byte[4], 0, 4).isCompletedExceptionally());
+        assertThrows(IOException.class, inputStream::read);
+    }
+
+    @Test
+    @DisplayName("when Offset And Length Are Out Of Bounds then Failed Future Returned")
+    public void whenOffsetAndLengthAreOutOfBounds_thenFailedFutureReturned() throws IOException {
+        try (AsyncFileInputStream inputStream = new AsyncFileInputStream(file)) {
+            ExecutionException outOfBounds = assertThrows(ExecutionException.class,
+                    () -> inputStream.readAsync(new byte[4], 2, 4).get());
+            ExecutionException nullArray = assertThrows(ExecutionException.class,
+                    () -> inputStream.readAsync(null, 0, 1).get());
+
+            assertInstanceOf(IndexOutOfBoundsException.class, outOfBounds.getCause());
+            assertInstanceOf(NullPointerException.class, nullArray.getCause());
+            assertThrows(IndexOutOfBoundsException.class, () -> inputStream.read(new byte[4], 2, 4));
+        }
+    }
+
+    @Test
+    @DisplayName("when Buffer Size Is Not Positive then Exception Thrown")
+    public void whenBufferSizeIsNotPositive_thenExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncFileInputStream(file, 0));
+    }
+}
@@ -0,0 +1,245 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncFileOutputStreamTest {
+    private final byte[] content = "Hello world".getBytes();
+    private Path file;
+
+    @BeforeEach
+    public void before() throws IOException {
+        file = Files.createTempFile("async-file-output", ".txt");
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("when Small Writes Flushed then Bytes Written To File")
+    public void whenSmallWritesFlushed_thenBytesWrittenToFile() throws IOException {
+        try (AsyncFileOutputStream outputStream = new AsyncFileOutputStream(file, 4, 2)) {
+            outputStream.write(content[0]);
+            outputStream.write(content, 1, content.length - 1);
+            outputStream.flush();
+
+            assertArrayEquals(content, Files.readAllBytes(file));
+        }
+    }
+
+    @Test
+    @DisplayName("when Write Fits In Buffer then Completed Future Returned Without Submission")
+    public void whenWriteFitsInBuffer_thenCompletedFutureReturnedWithoutSubmission() throws Exception {
+        try (AsyncFileOutputStream outputStream = new AsyncFileOutputStream(file, 64, 2)) {
+            CompletableFuture<Void> future = outputStream.writeAsync(content, 0, content.length);
+
+            assertTrue(future.isDone());
+            assertEquals(0, Files.size(file));
+
+            outputStream.flushAsync().get(10, TimeUnit.SECONDS);
+            assertArrayEquals(content, Files.readAllBytes(file));
+        }
+    }
+
+    @Test
+    @DisplayName("when Many Async Writes Outstanding then Bytes Written In Order")
+    public void whenManyAsyncWritesOutstanding_thenBytesWrittenInOrder() throws Exception {
+        byte[] payload = new byte[100_000];
+        new Random(42).nextBytes(payload);
+        try (AsyncFileOutputStream outputStream = new AsyncFileOutputStream(file, 1024, 4)) {
+            for (int offset = 0; offset < payload.length; offset += 1000) {
+                outputStream.writeAsync(payload, offset, Math.min(1000, payload.length - offset));
+            }
+            outputStream.flushAsync().get(10, TimeUnit.SECONDS);
+        }
+
+        assertArrayEquals(payload, Files.readAllBytes(file));
+    }
+
+    @Test
+    @DisplayName("when Blocking Writes Exceed Queue Depth then Bytes Written In Order")
+    public void whenBlockingWritesExceedQueueDepth_thenBytesWrittenInOrder() throws IOException {
+        byte[] payload = new byte[50_000];
+        new Random(42).nextBytes(payload);
+        try (AsyncFileOutputStream outputStream = new AsyncFileOutputStream(file, 256, 2)) {
+            for (byte value : payload) {
+                outputStream.write(value);
+            }
+        }
+
+        assertArrayEquals(payload, Files.readAllBytes(file));
+    }
+
+    @Test
+    @DisplayName("when Stream Closed then Async Write Fails")
+    public void whenStreamClosed_thenAsyncWriteFails() throws IOException {
+        AsyncFileOutputStream outputStream = new AsyncFileOutputStream(file);
+        outputStream.close();
+
+        assertTrue(outputStream.writeAsync(content, 0, content.length).isCompletedExceptionally());
+        assertTrue(outputStream.flushAsync().isCompletedExceptionally());
+        assertThrows(IOException.class, () -> outputStream.write(1));
+    }
+
+    @Test
+    @DisplayName("when Offset And Length Are Out Of Bounds then Failed Future Returned")
+    public void whenOffsetAndLengthAreOutOfBounds_thenFailedFutureReturned() throws IOException {
+        try (AsyncFileOutputStream outputStream = new AsyncFileOutputStream(file)) {
+            ExecutionException outOfBounds = assertThrows(ExecutionException.class,
+                    () -> outputStream.writeAsync(content, 5, content.length).get());
+            ExecutionException nullArray = assertThrows(ExecutionException.class,
+                    () -> outputStream.writeAsync(null, 0, 1).get());
+
+            assertInstanceOf(IndexOutOfBoundsException.class, outOfBounds.getCause());
+            assertInstanceOf(NullPointerException.class, nullArray.getCause());
+            assertThrows(IndexOutOfBoundsException.class, () -> outputStream.write(content, 5, content.length));
+        }
+    }
+
+    @Test
+    @DisplayName("when Async Writes Exceed Queue Depth then Later Writes Wait For Earlier Ones")
+    public void whenAsyncWritesExceedQueueDepth_thenLaterWritesWaitForEarlierOnes() throws Exception {
+        byte[] payload = new byte[40];
+        new Random(7).nextBytes(payload);
+        ManualChannel channel = new ManualChannel(AsynchronousFileChannel.open(file, StandardOpenOption.WRITE));
+        AsyncFileOutputStream outputStream = new AsyncFileOutputStream(channel, 4, 2);
+        try {
+            CompletableFuture<Void> future = outputStream.writeAsync(payload, 0, payload.length);
+
+            assertEquals(2, channel.pending.size());
+            while (!channel.pending.isEmpty()) {
+                channel.pending.poll().run();
+                assertTrue(channel.pending.size() <= 2);
+            }
+            future.get(10, TimeUnit.SECONDS);
+            assertArrayEquals(Arrays.copyOf(payload, 36), Files.readAllBytes(file));
+
+            CompletableFuture<Void> flushed = outputStream.flushAsync();
+            channel.pending.poll().run();
+            flushed.get(10, TimeUnit.SECONDS);
+            assertArrayEquals(payload, Files.readAllBytes(file));
+        } finally {
+            channel.release();
+            outputStream.close();
+        }
+    }
+
+    @Test
+    @DisplayName("when Queue Depth Is Not Positive then Exception Thrown")
+    public void whenQueueDepthIsNotPositive_thenExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncFileOutputStream(file, 64, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AsyncFileOutputStream(file, 0, 4));
+    }
+
+    // holds every write until the test runs it, so the number of writes started is observable
+    private static class ManualChannel extends AsynchronousFileChannel {
+        private final AsynchronousFileChannel channel;
+        private final Queue<Runnable> pending = new ArrayDeque<>();
+        private boolean isReleased = false;
+
+        private ManualChannel(AsynchronousFileChannel channel) {
+            this.channel = channel;
+        }
+
+        private void release() {
+            isReleased = true;
+            while (!pending.isEmpty()) {
+                pending.poll().run();
+            }
+        }
+
+        @Override
+        public <A> void write(ByteBuffer src, long position, A attachment,
+                              CompletionHandler<Integer, ? super A> handler) {
+            Runnable write = () -> {
+                try {
+                    handler.completed(channel.write(src, position).get(), attachment);
+                } catch (Exception e) {
+                    handler.failed(e, attachment);
+                }
+            };
+            if (isReleased) {
+                write.run();
+            } else {
+                pending.add(write);
+            }
+        }
+
+        @Override
+        public Future<Integer> write(ByteBuffer src, long position) {
+            return channel.write(src, position);
+        }
+
+        @Override
+        public <A> void read(ByteBuffer dst, long position, A attachment,
+                             CompletionHandler<Integer, ? super A> handler) {
+            channel.read(dst, position, attachment, handler);
+        }
+
+        @Override
+        public Future<Integer> read(ByteBuffer dst, long position) {
+            return channel.read(dst, position);
+        }
+
+        @Override
+        public long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public AsynchronousFileChannel truncate(long size) throws IOException {
+            return channel.truncate(size);
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            channel.force(metaData);
+        }
+
+        @Override
+        public <A> void lock(long position, long size, boolean shared, A attachment,
+                             CompletionHandler<FileLock, ? super A> handler) {
+            channel.lock(position, size, shared, attachment, handler);
+        }
+
+        @Override
+        public Future<FileLock> lock(long position, long size, boolean shared) {
+            return channel.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return channel.tryLock(position, size, shared);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BlockCompressingOutputStreamTest {
+    private final byte[] text = "Hello world, hello block compression! ".repeat(2000).getBytes();
+
+    @Test
+    @DisplayName("write Bytes By BlockCompressingOutputStream")
+    public void writeBytesByBlockCompressingOutputStream() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (BlockCompressingOutputStream blockCompressingOutputStream =
+                     new BlockCompressingOutputStream(byteArrayOutputStream, 1000)) {
+            for (byte b : text) {
+                blockCompressingOutputStream.write(b);
+            }
+        }
+
+        assertTrue(byteArrayOutputStream.size() < text.length / 4);
+        assertArrayEquals(text, decompress(byteArrayOutputStream.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("write Array Of Bytes Larger Than Block Size")
+    public void writeArrayOfBytesLargerThanBlockSize() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (BlockCompressingOutputStream blockCompressingOutputStream =
+                     new BlockCompressingOutputStream(byteArrayOutputStream, 4096)) {
+            blockCompressingOutputStream.write(text, 0, 10);
+            blockCompressingOutputStream.write(text, 10, text.length - 10);
+        }
+
+        assertArrayEquals(text, decompress(byteArrayOutputStream.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("when Data Is Incompressible then Blocks Are Stored Raw")
+    public void whenDataIsIncompressible_thenBlocksAreStoredRaw() throws IOException {
+        byte[] expected = new byte[50_000];
+        new Random(7).nextBytes(expected);
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (BlockCompressingOutputStream blockCompressingOutputStream =
+                     new BlockCompressingOutputStream(byteArrayOutputStream, 8192)) {
+            blockCompressingOutputStream.write(expected);
+        }
+
+        int blockCount = (expected.length + 8191) / 8192;
+        assertEquals(4 + expected.length + (blockCount + 1) * BlockCompressingOutputStream.HEADER_SIZE,
+                byteArrayOutputStream.size());
+        assertArrayEquals(expected, decompress(byteArrayOutputStream.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("write In Parallel Mode Keeps Block Order")
+    public void writeInParallelModeKeepsBlockOrder() throws IOException {
+        byte[] expected = new byte[300_000];
+        Random random = new Random(11);
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) ('a' + random.nextInt(4));
+        }
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (BlockCompressingOutputStream blockCompressingOutputStream =
+                     new BlockCompressingOutputStream(byteArrayOutputStream, 1024, forkJoinPool)) {
+            for (int offset = 0; offset < expected.length; offset += 999) {
+                blockCompressingOutputStream.write(expected, offset, Math.min(999, expected.length - offset));
+            }
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        assertArrayEquals(expected, decompress(byteArrayOutputStream.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("when Buffer Pool Given then Frame Buffer Keeps Block Size Class")
+    public void whenBufferPoolGiven_thenFrameBufferKeepsBlockSizeClass() throws IOException {
+        BufferPool bufferPool = new BufferPool();
+        byte[] random = new byte[200_000];
+        new Random(11).nextBytes(random);
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (BlockCompressingOutputStream blockCompressingOutputStream =
+                     new BlockCompressingOutputStream(byteArrayOutputStream, 65536, null, bufferPool)) {
+            blockCompressingOutputStream.write(text);
+            blockCompressingOutputStream.write(random);
+        }
+
+        assertEquals(2 * 65536, bufferPool.getRetainedBytes());
+        byte[] expected = new byte[text.length + random.length];
+        System.arraycopy(text, 0, expected, 0, text.length);
+        System.arraycopy(random, 0, expected, text.length, random.length);
+        assertArrayEquals(expected, decompress(byteArrayOutputStream.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("when Buffer Pool Given then Block Buffers Reused Across Streams")
+    public void whenBufferPoolGiven_thenBlockBuffersReusedAcrossStreams() throws IOException {
+        BufferPool bufferPool = new BufferPool();
+        for (int i = 0; i < 3; i++) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            try (BlockCompressingOutputStream blockCompressingOutputStream =
+                         new BlockCompressingOutputStream(byteArrayOutputStream, 1024, null, bufferPool)) {
+                blockCompressingOutputStream.write(text);
+            }
+            ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+            try (BlockDecompressingInputStream blockDecompressingInputStream = new BlockDecompressingInputStream(
+                    new ByteArrayInputStream(byteArrayOutputStream.toByteArray()), bufferPool)) {
+                int value;
+                while ((value = blockDecompressingInputStream.read()) != -1) {
+                    decompressed.write(value);
+                }
+            }
+            assertArrayEquals(text, decompressed.toByteArray());
+        }
+
+        assertTrue(bufferPool.getHitCount() > 0);
+        assertTrue(bufferPool.getRetainedBytes() > 0);
+    }
+
+    @Test
+    @DisplayName("flush Writes Pending Block")
+    public void flushWritesPendingBlock() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BlockCompressingOutputStream blockCompressingOutputStream =
+                new BlockCompressingOutputStream(byteArrayOutputStream, 1024, ForkJoinPool.commonPool());
+        blockCompressingOutputStream.write(text, 0, 100);
+
+        blockCompressingOutputStream.flush();
+
+        assertTrue(byteArrayOutputStream.size() > 4 + BlockCompressingOutputStream.HEADER_SIZE);
+        blockCompressingOutputStream.close();
+        byte[] expected = new byte[100];
+        System.arraycopy(text, 0, expected, 0, 100);
+        assertArrayEquals(expected, decompress(byteArrayOutputStream.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("when Nothing Is Written then Empty Stream Decompressed")
+    public void whenNothingIsWritten_thenEmptyStreamDecompressed() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        new BlockCompressingOutputStream(byteArrayOutputStream).close();
+
+        assertArrayEquals(new byte[0], decompress(byteArrayOutputStream.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("when BlockCompressingOutputStream is closed than IOException Returned")
+    public void whenBlockCompressingOutputStreamIsClosed_thenIOExceptionReturned() throws IOException {
+        BlockCompressingOutputStream blockCompressingOutputStream = new BlockCompressingOutputStream(new ByteArrayOutputStream());
+        blockCompressingOutputStream.close();
+        blockCompressingOutputStream.close();
+
+        Assertions.assertThrows(IOException.class, () -> blockCompressingOutputStream.write(1));
+    }
+
+    @Test
+    @DisplayName("when Block Size Is Zero then IllegalArgumentException Returned")
+    public void whenBlockSizeIsZero_thenIllegalArgumentExceptionReturned() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                new BlockCompressingOutputStream(new ByteArrayOutputStream(), 0));
+    }
+
+    private byte[] decompress(byte[] compressed) throws IOException {
+        try (BlockDecompressingInputStream blockDecompressingInputStream =
+                     new BlockDecompressingInputStream(new ByteArrayInputStream(compressed))) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            byte[] array = new byte[700];
+            int read;
+            while ((read = blockDecompressingInputStream.read(array)) != -1) {
+                byteArrayOutputStream.write(array, 0, read);
+            }
+            return byteArrayOutputStream.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BlockDecompressingInputStreamTest {
+    private final byte[] text = "Hello world, hello block decompression! ".repeat(500).getBytes();
+
+    @Test
+    @DisplayName("read Bytes By BlockDecompressingInputStream")
+    public void readBytesByBlockDecompressingInputStream() throws IOException {
+        try (BlockDecompressingInputStream blockDecompressingInputStream =
+                     new BlockDecompressingInputStream(new ByteArrayInputStream(compress(text, 1000)))) {
+            for (byte b : text) {
+                assertEquals(b & 0xFF, blockDecompressingInputStream.read());
+            }
+            assertEquals(-1, blockDecompressingInputStream.read());
+            assertEquals(-1, blockDecompressingInputStream.read());
+        }
+    }
+
+    @Test
+    @DisplayName("when Array Fits Whole Block then Block Is Decoded Into It")
+    public void whenArrayFitsWholeBlock_thenBlockIsDecodedIntoIt() throws IOException {
+        try (BlockDecompressingInputStream blockDecompressingInputStream =
+                     new BlockDecompressingInputStream(new ByteArrayInputStream(compress(text, 1000)))) {
+            byte[] array = new byte[1500];
+
+            assertEquals(1000, blockDecompressingInputStream.read(array, 500, 1000));
+            assertEquals(0, blockDecompressingInputStream.available());
+            assertArrayEquals(Arrays.copyOf(text, 1000), Arrays.copyOfRange(array, 500, 1500));
+        }
+    }
+
+    @Test
+    @DisplayName("when Array Is Smaller Than Block then Remaining Bytes Are Buffered")
+    public void whenArrayIsSmallerThanBlock_thenRemainingBytesAreBuffered() throws IOException {
+        try (BlockDecompressingInputStream blockDecompressingInputStream =
+                     new BlockDecompressingInputStream(new ByteArrayInputStream(compress(text, 1000)))) {
+            byte[] array = new byte[300];
+
+            assertEquals(300, blockDecompressingInputStream.read(array));
+            assertEquals(700, blockDecompressingInputStream.available());
+            assertArrayEquals(Arrays.copyOf(text, 300), array);
+        }
+    }
+
+    @Test
+    @DisplayName("when Magic Is Wrong then IOException Returned")
+    public void whenMagicIsWrong_thenIOExceptionReturned() {
+        BlockDecompressingInputStream blockDecompressingInputStream =
+                new BlockDecompressingInputStream(new ByteArrayInputStream("Hello world".getBytes()));
+
+        Assertions.assertThrows(IOException.class, blockDecompressingInputStream::read);
+    }
+
+    @Test
+    @DisplayName("when End Marker Is Missing then EOFException Returned")
+    public void whenEndMarkerIsMissing_thenEOFExceptionReturned() throws IOException {
+        byte[] compressed = compress(text, 1000);
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length - BlockCompressingOutputStream.HEADER_SIZE);
+        BlockDecompressingInputStream blockDecompressingInputStream =
+                new BlockDecompressingInputStream(new ByteArrayInputStream(truncated));
+        byte[] array = new byte[text.length];
+
+        Assertions.assertThrows(EOFException.class, () -> {
+            while (blockDecompressingInputStream.read(array) != -1) {
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("when Block Header Is Malformed then IOException Returned")
+    public void whenBlockHeaderIsMalformed_thenIOExceptionReturned() throws IOException {
+        byte[] compressed = compress(text, 1000);
+        BlockCompressingOutputStream.writeInt(compressed, 8, 1001);
+        BlockDecompressingInputStream blockDecompressingInputStream =
+                new BlockDecompressingInputStream(new ByteArrayInputStream(compressed));
+
+        Assertions.assertThrows(IOException.class, blockDecompressingInputStream::read);
+    }
+
+    @Test
+    @DisplayName("when BlockDecompressingInputStream is closed than IOException Returned")
+    public void whenBlockDecompressingInputStreamIsClosed_thenIOExceptionReturned() throws IOException {
+        BlockDecompressingInputStream blockDecompressingInputStream =
+                new BlockDecompressingInputStream(new ByteArrayInputStream(compress(text, 1000)));
+        blockDecompressingInputStream.close();
+
+        Assertions.assertThrows(IOException.class, blockDecompressingInputStream::read);
+    }
+
+    private byte[] compress(byte[] content, int blockSize) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (BlockCompressingOutputStream blockCompressingOutputStream =
+                     new BlockCompressingOutputStream(byteArrayOutputStream, blockSize)) {
+            blockCompressingOutputStream.write(content);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+}
@@ -0,0 +1,150 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class BufferPoolTest {
+    private final BufferPool bufferPool = new BufferPool(1024, 2048);
+
+    @Test
+    @DisplayName("acquire Rounds Capacity Up To Size Class")
+    public void acquireRoundsCapacityUpToSizeClass() {
+        assertEquals(512, bufferPool.acquire(300).length);
+        assertEquals(1, bufferPool.acquire(1).length);
+        assertEquals(1024, bufferPool.acquire(1024).length);
+    }
+
+    @Test
+    @DisplayName("when Released Buffer Acquired Again then Hit Counted")
+    public void whenReleasedBufferAcquiredAgain_thenHitCounted() {
+        byte[] buffer = bufferPool.acquire(512);
+        bufferPool.release(buffer);
+
+        assertEquals(512, bufferPool.getRetainedBytes());
+        assertSame(buffer, bufferPool.acquire(400));
+        assertEquals(1, bufferPool.getHitCount());
+        assertEquals(1, bufferPool.getMissCount());
+        assertEquals(0, bufferPool.getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("when Retained Bytes Limit Reached then Buffer Dropped")
+    public void whenRetainedBytesLimitReached_thenBufferDropped() {
+        bufferPool.release(new byte[1024]);
+        bufferPool.release(new byte[1024]);
+        bufferPool.release(new byte[1024]);
+
+        assertEquals(2048, bufferPool.getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("when Buffer Is Larger Than Max Capacity then It Is Not Pooled")
+    public void whenBufferIsLargerThanMaxCapacity_thenItIsNotPooled() {
+        byte[] buffer = bufferPool.acquire(4096);
+        bufferPool.release(buffer);
+
+        assertEquals(4096, buffer.length);
+        assertEquals(0, bufferPool.getRetainedBytes());
+        assertNotSame(buffer, bufferPool.acquire(4096));
+    }
+
+    @Test
+    @DisplayName("when Buffer Size Is Not Size Class then It Is Not Pooled")
+    public void whenBufferSizeIsNotSizeClass_thenItIsNotPooled() {
+        bufferPool.release(new byte[300]);
+
+        assertEquals(0, bufferPool.getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("streams Return Buffers To Pool On Close")
+    public void streamsReturnBuffersToPoolOnClose() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(byteArrayOutputStream, 64, bufferPool);
+        bufferedOutputStream.write("Hello".getBytes());
+        bufferedOutputStream.close();
+        bufferedOutputStream.close();
+
+        assertEquals(64, bufferPool.getRetainedBytes());
+
+        BufferedInputStream bufferedInputStream =
+                new BufferedInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()), 64, bufferPool);
+        assertEquals('H', bufferedInputStream.read());
+        assertEquals(0, bufferPool.getRetainedBytes());
+        bufferedInputStream.close();
+
+        assertEquals(64, bufferPool.getRetainedBytes());
+        assertEquals(1, bufferPool.getHitCount());
+    }
+
+    @Test
+    @DisplayName("when Pooled Stream Capacity Is Not Size Class then Requested Capacity Used")
+    public void whenPooledStreamCapacityIsNotSizeClass_thenRequestedCapacityUsed() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(byteArrayOutputStream, 5, bufferPool);
+        bufferedOutputStream.write("Hel".getBytes());
+        bufferedOutputStream.write("lo ".getBytes());
+
+        assertEquals(5, bufferedOutputStream.getBufferCapacity());
+        assertEquals("Hel", new String(byteArrayOutputStream.toByteArray()));
+
+        bufferedOutputStream.close();
+        assertEquals(0, bufferedOutputStream.getBufferCapacity());
+        assertEquals(8, bufferPool.getRetainedBytes());
+
+        java.io.ByteArrayInputStream source = new java.io.ByteArrayInputStream("Hello world".getBytes());
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(source, 5, bufferPool);
+        assertEquals(5, bufferedInputStream.getBufferCapacity());
+        assertEquals('H', bufferedInputStream.read());
+        assertEquals(6, source.available());
+        bufferedInputStream.close();
+    }
+
+    @Test
+    @DisplayName("when Capacity Is Above Top Size Class then Exact Capacity Allocated")
+    public void whenCapacityIsAboveTopSizeClass_thenExactCapacityAllocated() {
+        SizeClassPool<Integer> pool = new SizeClassPool<>(Integer.MAX_VALUE, Long.MAX_VALUE, Integer::valueOf, Integer::intValue);
+
+        assertEquals(1 << 30, pool.acquire((1 << 30) - 1));
+        assertEquals((1 << 30) + 1, pool.acquire((1 << 30) + 1));
+        assertEquals(Integer.MAX_VALUE, pool.acquire(Integer.MAX_VALUE));
+
+        pool.release((1 << 30) + 1);
+        assertEquals(0, pool.getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("when Source Close Fails then Stream Closed And Buffer Released Once")
+    public void whenSourceCloseFails_thenStreamClosedAndBufferReleasedOnce() {
+        java.io.InputStream failingInputStream = new java.io.InputStream() {
+            @Override
+            public int read() {
+                return -1;
+            }
+
+            @Override
+            public void close() throws IOException {
+                throw new IOException("close failed");
+            }
+        };
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(failingInputStream, 64, bufferPool);
+
+        Assertions.assertThrows(IOException.class, bufferedInputStream::close);
+        Assertions.assertDoesNotThrow(bufferedInputStream::close);
+        Assertions.assertThrows(IOException.class, bufferedInputStream::read);
+        assertEquals(64, bufferPool.getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("when Acquire Buffer With Zero Capacity then IllegalArgumentException Returned")
+    public void whenAcquireBufferWithZeroCapacity_thenIllegalArgumentException_Returned() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bufferPool.acquire(0));
+    }
+}
@@ -0,0 +1,115 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BufferedChannelInputStreamTest {
+    private final String content = "Hello world";
+    private Path file;
+    private BufferedChannelInputStream bufferedChannelInputStream;
+
+    @BeforeEach
+    public void before() throws IOException {
+        file = Files.createTempFile("buffered-channel-input", ".txt");
+        Files.write(file, content.getBytes());
+        bufferedChannelInputStream = new BufferedChannelInputStream(FileChannel.open(file, StandardOpenOption.READ), 4);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        bufferedChannelInputStream.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("read Bytes By BufferedChannelInputStream")
+    public void readBytesByBufferedChannelInputStream() throws IOException {
+        for (int i = 0; i < content.length(); i++) {
+            assertEquals(content.charAt(i), bufferedChannelInputStream.read());
+        }
+        assertEquals(-1, bufferedChannelInputStream.read());
+    }
+
+    @Test
+    @DisplayName("read Array Of Bytes Across Buffer Refills by BufferedChannelInputStream")
+    public void readArrayOfBytes_acrossBufferRefills_byBufferedChannelInputStream() throws IOException {
+        byte[] array = new byte[content.length()];
+        int total = 0;
+        int read;
+        while ((read = bufferedChannelInputStream.read(array, total, array.length - total)) > 0) {
+            total += read;
+        }
+
+        assertEquals(content, new String(array));
+        assertEquals(-1, bufferedChannelInputStream.read(array, 0, 1));
+    }
+
+    @Test
+    @DisplayName("read With Pooled Direct Buffer Returns It On Close")
+    public void readWithPooledDirectBuffer_returnsItOnClose() throws IOException {
+        DirectBufferPool bufferPool = new DirectBufferPool();
+        BufferedChannelInputStream pooledInputStream =
+                new BufferedChannelInputStream(Channels.newChannel(new ByteArrayInputStream(content.getBytes())), 16, bufferPool);
+
+        assertEquals('H', pooledInputStream.read());
+        pooledInputStream.close();
+        pooledInputStream.close();
+
+        assertEquals(16, bufferPool.getRetainedBytes());
+        assertEquals(1, bufferPool.getMissCount());
+    }
+
+    @Test
+    @DisplayName("read With Pooled Direct Buffer Keeps Requested Capacity")
+    public void readWithPooledDirectBuffer_keepsRequestedCapacity() throws IOException {
+        java.io.ByteArrayInputStream source = new java.io.ByteArrayInputStream(new byte[20_000]);
+        DirectBufferPool bufferPool = new DirectBufferPool();
+        BufferedChannelInputStream pooledInputStream =
+                new BufferedChannelInputStream(Channels.newChannel(source), 5000, bufferPool);
+
+        assertEquals(0, pooledInputStream.read());
+        assertEquals(4999, pooledInputStream.available());
+        assertEquals(15_000, source.available());
+        pooledInputStream.close();
+
+        assertEquals(8192, bufferPool.getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("when BufferedChannelInputStream is closed than IOException Returned")
+    public void whenBufferedChannelInputStreamIsClosed_thanIOExceptionReturned() {
+        Assertions.assertThrows(IOException.class, () -> {
+            bufferedChannelInputStream.close();
+            bufferedChannelInputStream.read();
+        });
+    }
+
+    @Test
+    @DisplayName("read Array Of Bytes By BufferedChannelInputStream with Incorrect Parameter Length")
+    public void readArrayOfBytes_byBufferedChannelInputStream_withIncorrectParameterLength() {
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> bufferedChannelInputStream.read(new byte[5], 1, 5));
+    }
+
+    @Test
+    @DisplayName("transfer To Channel Output Stream Drains Buffer And Channel")
+    public void transferToChannelOutputStream_drainsBufferAndChannel() throws IOException {
+        Path target = Files.createTempFile("buffered-channel-transfer", ".txt");
+        assertEquals('H', bufferedChannelInputStream.read());
+        try (BufferedChannelOutputStream outputStream =
+                     new BufferedChannelOutputStream(FileChannel.open(target, StandardOpenOption.WRITE))) {
+            outputStream.write('>');
+            assertEquals(content.length() - 1, bufferedChannelInputStream.transferTo(outputStream));
+        }
+
+        assertEquals(">ello world", Files.readString(target));
+        Files.delete(target);
+    }
+}
@@ -0,0 +1,93 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BufferedChannelOutputStreamTest {
+    private Path file;
+
+    @BeforeEach
+    public void before() throws IOException {
+        file = Files.createTempFile("buffered-channel-output", ".txt");
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("write Bytes By BufferedChannelOutputStream to File Channel")
+    public void writeBytesByBufferedChannelOutputStream_toFileChannel() throws IOException {
+        try (BufferedChannelOutputStream bufferedChannelOutputStream =
+                     new BufferedChannelOutputStream(FileChannel.open(file, StandardOpenOption.WRITE), 4)) {
+            bufferedChannelOutputStream.write('H');
+            bufferedChannelOutputStream.write("ello world".getBytes());
+            bufferedChannelOutputStream.write("!!!".getBytes(), 1, 1);
+        }
+
+        assertEquals("Hello world!", Files.readString(file));
+    }
+
+    @Test
+    @DisplayName("flush Writes Buffered Bytes To Channel")
+    public void flushWritesBufferedBytesToChannel() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        DirectBufferPool bufferPool = new DirectBufferPool();
+        BufferedChannelOutputStream bufferedChannelOutputStream =
+                new BufferedChannelOutputStream(Channels.newChannel(byteArrayOutputStream), 64, bufferPool);
+        bufferedChannelOutputStream.write("Hello".getBytes());
+
+        assertEquals(0, byteArrayOutputStream.toByteArray().length);
+        bufferedChannelOutputStream.flush();
+        assertEquals("Hello", new String(byteArrayOutputStream.toByteArray()));
+
+        bufferedChannelOutputStream.close();
+        assertEquals(64, bufferPool.getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("write With Pooled Direct Buffer Keeps Requested Capacity")
+    public void writeWithPooledDirectBuffer_keepsRequestedCapacity() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        DirectBufferPool bufferPool = new DirectBufferPool();
+        BufferedChannelOutputStream bufferedChannelOutputStream =
+                new BufferedChannelOutputStream(Channels.newChannel(byteArrayOutputStream), 5000, bufferPool);
+        bufferedChannelOutputStream.write(new byte[6000]);
+
+        assertEquals(5000, byteArrayOutputStream.toByteArray().length);
+        bufferedChannelOutputStream.write(new byte[4000]);
+        bufferedChannelOutputStream.write(1);
+        assertEquals(10_000, byteArrayOutputStream.toByteArray().length);
+
+        bufferedChannelOutputStream.close();
+        assertEquals(8192, bufferPool.getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("when BufferedChannelOutputStream is closed than IOException Returned")
+    public void whenBufferedChannelOutputStreamIsClosed_thanIOExceptionReturned() throws IOException {
+        BufferedChannelOutputStream bufferedChannelOutputStream =
+                new BufferedChannelOutputStream(FileChannel.open(file, StandardOpenOption.WRITE));
+        bufferedChannelOutputStream.close();
+
+        Assertions.assertThrows(IOException.class, () -> bufferedChannelOutputStream.write(1));
+    }
+
+    @Test
+    @DisplayName("write Array Of Bytes by BufferedChannelOutputStream with Parameter Length Less Than Zero")
+    public void writeArrayOfBytes_byBufferedChannelOutputStream_withParameterLengthLessThanZero() throws IOException {
+        try (BufferedChannelOutputStream bufferedChannelOutputStream =
+                     new BufferedChannelOutputStream(FileChannel.open(file, StandardOpenOption.WRITE))) {
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> bufferedChannelOutputStream.write(new byte[5], 0, -1));
+        }
+    }
+}
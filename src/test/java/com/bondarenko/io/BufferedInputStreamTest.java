@@ -3,6 +3,13 @@ package com.bondarenko.io;
 import org.junit.jupiter.api.*;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -168,5 +175,235 @@ public class BufferedInputStreamTest {
         byte[] array = new byte[5];
         assertEquals(0, bufferedInputStream.read(array, 1, 0));
     }
-}
 
+    @Test
+    @DisplayName("read Array Of Bytes Across Buffer Refills by BufferedInputStream")
+    public void readArrayOfBytes_acrossBufferRefills_byBufferedInputStream() throws IOException {
+        BufferedInputStream smallBufferedInputStream = new BufferedInputStream(new FileInputStream(file), 4);
+        byte[] array = new byte[content.length()];
+        int total = 0;
+        int read;
+        while ((read = smallBufferedInputStream.read(array, total, Math.min(3, array.length - total))) > 0) {
+            total += read;
+        }
+        smallBufferedInputStream.close();
+
+        assertEquals(content, new String(array, 0, total));
+    }
+
+    @Test
+    @DisplayName("transfer To Output Stream Drains Buffer And Rest Of Stream")
+    public void transferToOutputStream_drainsBufferAndRestOfStream() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        assertEquals('H', bufferedInputStream.read());
+
+        assertEquals(content.length() - 1, bufferedInputStream.transferTo(byteArrayOutputStream));
+        assertEquals("ello world", new String(byteArrayOutputStream.toByteArray()));
+        assertEquals(-1, bufferedInputStream.read());
+    }
+
+    @Test
+    @DisplayName("transfer To File Output Stream Uses File Channels")
+    public void transferToFileOutputStream_usesFileChannels() throws IOException {
+        File target = File.createTempFile("buffered-input-transfer", ".txt");
+        BufferedInputStream smallBufferedInputStream = new BufferedInputStream(new FileInputStream(file), 4);
+        assertEquals('H', smallBufferedInputStream.read());
+        try (FileOutputStream fileOutputStream = new FileOutputStream(target)) {
+            assertEquals(content.length() - 1, smallBufferedInputStream.transferTo(fileOutputStream));
+        }
+        smallBufferedInputStream.close();
+
+        assertEquals("ello world", new String(Files.readAllBytes(target.toPath())));
+        target.delete();
+    }
+
+    @Test
+    @DisplayName("index Of Delimiter Within Buffered Bytes")
+    public void indexOfDelimiter_withinBufferedBytes() throws IOException {
+        assertEquals(5, bufferedInputStream.indexOf((byte) ' '));
+        assertEquals('H', bufferedInputStream.read());
+        assertEquals(4, bufferedInputStream.indexOf((byte) ' '));
+        assertEquals(-1, bufferedInputStream.indexOf((byte) ';'));
+    }
+
+    @Test
+    @DisplayName("read Until Delimiter Across Buffer Refills")
+    public void readUntilDelimiter_acrossBufferRefills() throws IOException {
+        BufferedInputStream smallBufferedInputStream =
+                new BufferedInputStream(new ByteArrayInputStream("first;second record;;last".getBytes()), 4);
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+
+        assertEquals(5, smallBufferedInputStream.readUntil((byte) ';', sink));
+        assertEquals(13, smallBufferedInputStream.readUntil((byte) ';', sink));
+        assertEquals(0, smallBufferedInputStream.readUntil((byte) ';', sink));
+        assertEquals(4, smallBufferedInputStream.readUntil((byte) ';', sink));
+        assertEquals(-1, smallBufferedInputStream.readUntil((byte) ';', sink));
+        assertEquals("firstsecond recordlast", new String(sink.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("read Line Strips Line Terminators Across Buffer Refills")
+    public void readLine_stripsLineTerminators_acrossBufferRefills() throws IOException {
+        BufferedInputStream smallBufferedInputStream =
+                new BufferedInputStream(new ByteArrayInputStream("abc\r\n\nde\rf\r\nlast\r".getBytes()), 4);
+        List<String> lines = new ArrayList<>();
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        long length;
+        while ((length = smallBufferedInputStream.readLine(sink)) != -1) {
+            byte[] bytes = sink.toByteArray();
+            lines.add(new String(bytes, bytes.length - (int) length, (int) length));
+        }
+
+        assertEquals(List.of("abc", "", "de\rf", "last\r"), lines);
+    }
+
+    @Test
+    @DisplayName("when Read Line Into Null Sink then NullPointerException Returned")
+    public void whenReadLineIntoNullSink_thenNullPointerException_Returned() {
+        Assertions.assertThrows(NullPointerException.class, () -> bufferedInputStream.readLine(null));
+    }
+
+    @Test
+    @DisplayName("read Primitives In Both Byte Orders Across Buffer Refills")
+    public void readPrimitives_inBothByteOrders_acrossBufferRefills() throws IOException {
+        ByteBuffer expected = ByteBuffer.allocate(64);
+        expected.put((byte) 7).putShort((short) -2).putInt(0x12345678).putLong(0x1122334455667788L);
+        expected.order(ByteOrder.LITTLE_ENDIAN).putShort((short) 0x1234).putInt(-5).putLong(-6L);
+        for (int capacity : new int[]{3, 8, 10, 64}) {
+            BufferedInputStream primitiveInputStream =
+                    new BufferedInputStream(new ByteArrayInputStream(Arrays.copyOf(expected.array(), expected.position())), capacity);
+
+            assertEquals(7, primitiveInputStream.read());
+            assertEquals(-2, primitiveInputStream.readShort());
+            assertEquals(0x12345678, primitiveInputStream.readInt());
+            assertEquals(0x1122334455667788L, primitiveInputStream.readLong());
+            assertEquals(0x1234, primitiveInputStream.readShortLE());
+            assertEquals(-5, primitiveInputStream.readIntLE());
+            assertEquals(-6L, primitiveInputStream.readLongLE());
+            assertEquals(-1, primitiveInputStream.read());
+        }
+    }
+
+    @Test
+    @DisplayName("read Var Ints And Var Longs")
+    public void readVarIntsAndVarLongs() throws IOException {
+        byte[] encoded = {0, 1, 127, (byte) 0xAC, 0x02, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+        for (int capacity : new int[]{2, 1024}) {
+            BufferedInputStream varIntInputStream = new BufferedInputStream(new ByteArrayInputStream(encoded), capacity);
+
+            assertEquals(0, varIntInputStream.readVarInt());
+            assertEquals(1, varIntInputStream.readVarInt());
+            assertEquals(127, varIntInputStream.readVarInt());
+            assertEquals(300, varIntInputStream.readVarInt());
+            assertEquals(-1, varIntInputStream.readVarInt());
+            assertEquals(-1L, varIntInputStream.readVarLong());
+            assertEquals(-1, varIntInputStream.read());
+        }
+    }
+
+    @Test
+    @DisplayName("when Value Is Cut By End Of Stream then EOFException Returned")
+    public void whenValueIsCutByEndOfStream_thenEOFException_Returned() throws IOException {
+        BufferedInputStream cutInputStream = new BufferedInputStream(new ByteArrayInputStream(new byte[]{1, 2, (byte) 0x83}), 16);
+
+        Assertions.assertThrows(EOFException.class, cutInputStream::readInt);
+        assertEquals(0x0102, cutInputStream.readShort());
+        Assertions.assertThrows(EOFException.class, cutInputStream::readVarLong);
+    }
+
+    @Test
+    @DisplayName("read Fully Reads Across Buffer Refills Or Throws EOFException")
+    public void readFully_readsAcrossBufferRefills_orThrowsEOFException() throws IOException {
+        BufferedInputStream smallBufferedInputStream = new BufferedInputStream(new FileInputStream(file), 4);
+        byte[] array = new byte[content.length()];
+        smallBufferedInputStream.readFully(array);
+
+        assertEquals(content, new String(array));
+        Assertions.assertThrows(EOFException.class, () -> smallBufferedInputStream.readFully(new byte[1]));
+        smallBufferedInputStream.close();
+    }
+
+    @Test
+    @DisplayName("when Checksum Is Enabled then CRC32C Of Read Bytes Returned")
+    public void whenChecksumIsEnabled_thenCrc32cOfReadBytes_Returned() throws IOException {
+        byte[] content = "Hello world, hello checksum".getBytes();
+        CRC32C expected = new CRC32C();
+        expected.update(content);
+        BufferedInputStream checkedInputStream =
+                new BufferedInputStream(new ByteArrayInputStream(content), 8, new CRC32C(), false);
+        byte[] array = new byte[content.length];
+
+        checkedInputStream.readFully(array, 0, 3);
+        checkedInputStream.readFully(array, 3, content.length - 3);
+
+        assertEquals(-1, checkedInputStream.read());
+        assertEquals(expected.getValue(), checkedInputStream.getChecksumValue());
+        Assertions.assertArrayEquals(content, array);
+    }
+
+    @Test
+    @DisplayName("when Trailer Matches then Content Without Trailer Returned")
+    public void whenTrailerMatches_thenContentWithoutTrailer_Returned() throws IOException {
+        byte[] content = "Hello world, hello checksum trailer".getBytes();
+        for (int capacity = 16; capacity < 48; capacity += 5) {
+            BufferedInputStream checkedInputStream =
+                    new BufferedInputStream(new ByteArrayInputStream(withTrailer(content)), capacity, new CRC32C(), true);
+            ByteArrayOutputStream actual = new ByteArrayOutputStream();
+
+            assertEquals(content.length, checkedInputStream.transferTo(actual));
+
+            assertEquals(-1, checkedInputStream.read());
+            Assertions.assertArrayEquals(content, actual.toByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("when Trailer Follows Short Content then Primitive Reads Stop Before It")
+    public void whenTrailerFollowsShortContent_thenPrimitiveReadsStopBeforeIt() throws IOException {
+        byte[] content = {0, 0, 0, 42, 7};
+        BufferedInputStream checkedInputStream =
+                new BufferedInputStream(new ByteArrayInputStream(withTrailer(content)), 16, new CRC32C(), true);
+
+        assertEquals(42, checkedInputStream.readInt());
+        assertEquals(7, checkedInputStream.read());
+        assertEquals(-1, checkedInputStream.read());
+        Assertions.assertThrows(EOFException.class, checkedInputStream::readInt);
+    }
+
+    @Test
+    @DisplayName("when Content Is Corrupted then IOException Returned At End Of Stream")
+    public void whenContentIsCorrupted_thenIOException_ReturnedAtEndOfStream() throws IOException {
+        byte[] corrupted = withTrailer("Hello world".getBytes());
+        corrupted[3] ^= 1;
+        BufferedInputStream checkedInputStream =
+                new BufferedInputStream(new ByteArrayInputStream(corrupted), 16, new CRC32C(), true);
+        byte[] array = new byte[11];
+
+        checkedInputStream.readFully(array);
+        Assertions.assertThrows(IOException.class, checkedInputStream::read);
+    }
+
+    @Test
+    @DisplayName("when Trailer Is Truncated then EOFException Returned")
+    public void whenTrailerIsTruncated_thenEOFException_Returned() {
+        byte[] truncated = Arrays.copyOf(withTrailer("Hi".getBytes()), 5);
+        BufferedInputStream checkedInputStream =
+                new BufferedInputStream(new ByteArrayInputStream(truncated), 16, new CRC32C(), true);
+
+        Assertions.assertThrows(EOFException.class, checkedInputStream::read);
+    }
+
+    @Test
+    @DisplayName("when Buffer Cannot Hold Back Trailer then IllegalArgumentException Returned")
+    public void whenBufferCannotHoldBackTrailer_thenIllegalArgumentException_Returned() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+                new BufferedInputStream(new ByteArrayInputStream(new byte[0]), 15, new CRC32C(), true));
+    }
+
+    private byte[] withTrailer(byte[] content) {
+        CRC32C crc32c = new CRC32C();
+        crc32c.update(content);
+        return ByteBuffer.allocate(content.length + Long.BYTES).put(content).putLong(crc32c.getValue()).array();
+    }
+}
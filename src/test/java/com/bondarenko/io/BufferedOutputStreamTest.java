@@ -3,8 +3,18 @@ package com.bondarenko.io;
 import org.junit.jupiter.api.*;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.zip.CRC32C;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class BufferedOutputStreamTest {
@@ -112,5 +122,254 @@ public class BufferedOutputStreamTest {
             bufferedOutputStream.write(array, 0, -1);
         });
     }
-}
 
+    @Test
+    @DisplayName("write More Bytes Than Buffer Capacity by BufferedOutputStream")
+    public void writeMoreBytesThanBufferCapacity_byBufferedOutputStream() throws Exception {
+        for (byte b : content) {
+            bufferedOutputStream.write(b);
+        }
+        bufferedOutputStream.write(content, 0, 3);
+        bufferedOutputStream.write(content, 3, 4);
+        bufferedOutputStream.close();
+
+        assertEquals("Hello worldHello w", new String(byteArrayOutputStream.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("write Primitives In Both Byte Orders Across Buffer Flushes")
+    public void writePrimitives_inBothByteOrders_acrossBufferFlushes() throws IOException {
+        ByteBuffer expected = ByteBuffer.allocate(64);
+        expected.put((byte) 7).putShort((short) -2).putInt(0x12345678).putLong(0x1122334455667788L);
+        expected.order(ByteOrder.LITTLE_ENDIAN).putShort((short) 0x1234).putInt(-5).putLong(-6L);
+        for (int capacity : new int[]{3, 5, 8, 64}) {
+            ByteArrayOutputStream target = new ByteArrayOutputStream();
+            BufferedOutputStream primitiveOutputStream = new BufferedOutputStream(target, capacity);
+            primitiveOutputStream.write(7);
+            primitiveOutputStream.writeShort((short) -2);
+            primitiveOutputStream.writeInt(0x12345678);
+            primitiveOutputStream.writeLong(0x1122334455667788L);
+            primitiveOutputStream.writeShortLE((short) 0x1234);
+            primitiveOutputStream.writeIntLE(-5);
+            primitiveOutputStream.writeLongLE(-6L);
+            primitiveOutputStream.write(9);
+            primitiveOutputStream.close();
+
+            expected.put(expected.position(), (byte) 9);
+            assertArrayEquals(Arrays.copyOf(expected.array(), expected.position() + 1), target.toByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("write Var Ints And Var Longs")
+    public void writeVarIntsAndVarLongs() throws IOException {
+        byte[] expected = {0, 1, 127, (byte) 0xAC, 0x02, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+        for (int capacity : new int[]{5, 1024}) {
+            ByteArrayOutputStream target = new ByteArrayOutputStream();
+            BufferedOutputStream varIntOutputStream = new BufferedOutputStream(target, capacity);
+            varIntOutputStream.writeVarInt(0);
+            varIntOutputStream.writeVarInt(1);
+            varIntOutputStream.writeVarInt(127);
+            varIntOutputStream.writeVarInt(300);
+            varIntOutputStream.writeVarInt(-1);
+            varIntOutputStream.writeVarLong(-1L);
+            varIntOutputStream.close();
+
+            assertArrayEquals(expected, target.toByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("small Var Longs Fill Small Buffer Before Flush")
+    public void smallVarLongsFillSmallBufferBeforeFlush() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        BufferedOutputStream varIntOutputStream = new BufferedOutputStream(target, 5);
+        varIntOutputStream.writeVarLong(1);
+        varIntOutputStream.writeVarLong(300);
+        varIntOutputStream.writeVarInt(127);
+
+        assertEquals(0, target.size());
+
+        varIntOutputStream.writeVarLong(300);
+        assertArrayEquals(new byte[]{1, (byte) 0xAC, 0x02, 127}, target.toByteArray());
+        varIntOutputStream.close();
+    }
+
+    @Test
+    @DisplayName("write Utf8 Matches String Get Bytes Across Buffer Flushes")
+    public void writeUtf8_matchesStringGetBytes_acrossBufferFlushes() throws IOException {
+        String text = "Hello world, \u043f\u0440\u0438\u0432\u0456\u0442 \u20ac \uD83D\uDE00 end \uD800 ascii tail";
+        for (int capacity : new int[]{1, 3, 4, 5, 7, 1024}) {
+            ByteArrayOutputStream target = new ByteArrayOutputStream();
+            BufferedOutputStream utf8OutputStream = new BufferedOutputStream(target, capacity);
+            utf8OutputStream.writeUtf8(text);
+            utf8OutputStream.writeUtf8(new StringBuilder("!"));
+            utf8OutputStream.close();
+
+            assertArrayEquals((text + "!").getBytes(StandardCharsets.UTF_8), target.toByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("when Checksum Is Enabled then CRC32C Of Written Bytes Returned")
+    public void whenChecksumIsEnabled_thenCrc32cOfWrittenBytes_Returned() throws IOException {
+        byte[] content = "Hello world, hello checksum".getBytes();
+        CRC32C expected = new CRC32C();
+        expected.update(content);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        BufferedOutputStream checkedOutputStream = new BufferedOutputStream(target, 8, new CRC32C(), false);
+
+        checkedOutputStream.write(content[0]);
+        checkedOutputStream.write(content, 1, 3);
+        checkedOutputStream.write(content, 4, content.length - 4);
+        checkedOutputStream.flush();
+
+        assertEquals(expected.getValue(), checkedOutputStream.getChecksumValue());
+        checkedOutputStream.close();
+        assertArrayEquals(content, target.toByteArray());
+    }
+
+    @Test
+    @DisplayName("when Trailer Is Enabled then Checksum Is Appended On Close")
+    public void whenTrailerIsEnabled_thenChecksumIsAppendedOnClose() throws IOException {
+        byte[] content = "Hello world".getBytes();
+        CRC32C expected = new CRC32C();
+        expected.update(content);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        BufferedOutputStream checkedOutputStream = new BufferedOutputStream(target, 4, new CRC32C(), true);
+
+        checkedOutputStream.write(content);
+        checkedOutputStream.close();
+        checkedOutputStream.close();
+
+        byte[] written = target.toByteArray();
+        assertEquals(content.length + Long.BYTES, written.length);
+        assertArrayEquals(content, Arrays.copyOf(written, content.length));
+        assertEquals(expected.getValue(), ByteBuffer.wrap(written, content.length, Long.BYTES).getLong());
+    }
+
+    @Test
+    @DisplayName("when Checksum Is Not Enabled then IllegalStateException Returned")
+    public void whenChecksumIsNotEnabled_thenIllegalStateException_Returned() {
+        BufferedOutputStream plainOutputStream = new BufferedOutputStream(new ByteArrayOutputStream(), 8);
+
+        Assertions.assertThrows(IllegalStateException.class, plainOutputStream::getChecksumValue);
+    }
+
+    @Test
+    @DisplayName("when Array Does Not Fit then Buffered Bytes And Array Gathered In One Write")
+    public void whenArrayDoesNotFit_thenBufferedBytesAndArrayGatheredInOneWrite() throws IOException {
+        RecordingGatheringChannel channel = new RecordingGatheringChannel();
+        BufferedOutputStream gatheringOutputStream = new BufferedOutputStream(channel, 8);
+
+        gatheringOutputStream.write("Hello".getBytes());
+        gatheringOutputStream.write(" gathering world".getBytes());
+
+        assertEquals(1, channel.gatheringWrites);
+        assertEquals(0, channel.singleWrites);
+        assertEquals("Hello gathering world", new String(channel.target.toByteArray()));
+        gatheringOutputStream.write('!');
+        gatheringOutputStream.close();
+        assertEquals("Hello gathering world!", new String(channel.target.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("write Buffers Header And Body In One Gathering Write")
+    public void writeBuffersHeaderAndBodyInOneGatheringWrite() throws IOException {
+        RecordingGatheringChannel channel = new RecordingGatheringChannel();
+        BufferedOutputStream gatheringOutputStream = new BufferedOutputStream(channel, 8);
+        ByteBuffer header = ByteBuffer.allocateDirect(4).putInt(12).flip();
+        ByteBuffer body = ByteBuffer.wrap("Hello world!".getBytes());
+
+        gatheringOutputStream.write((byte) 1);
+        gatheringOutputStream.writeBuffers(header, body);
+
+        assertEquals(1, channel.gatheringWrites);
+        assertEquals(0, header.remaining());
+        assertEquals(0, body.remaining());
+        byte[] expected = ByteBuffer.allocate(17).put((byte) 1).putInt(12).put("Hello world!".getBytes()).array();
+        assertArrayEquals(expected, channel.target.toByteArray());
+    }
+
+    @Test
+    @DisplayName("write Buffers Through Buffer When Target Is Output Stream")
+    public void writeBuffersThroughBufferWhenTargetIsOutputStream() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(target, 8);
+        ByteBuffer small = ByteBuffer.wrap("Hi ".getBytes());
+        ByteBuffer direct = ByteBuffer.allocateDirect(11).put("there world".getBytes()).flip();
+        ByteBuffer large = ByteBuffer.wrap("!!! and more".getBytes());
+
+        bufferedOutputStream.writeBuffers(small);
+        bufferedOutputStream.writeBuffers(direct, large);
+        bufferedOutputStream.flush();
+
+        assertEquals("Hi there world!!! and more", new String(target.toByteArray()));
+        assertEquals(0, direct.remaining());
+        assertEquals(0, large.remaining());
+    }
+
+    @Test
+    @DisplayName("write To File Channel With Gathering Writes")
+    public void writeToFileChannelWithGatheringWrites() throws IOException {
+        Path file = Files.createTempFile("gathering-output", ".txt");
+        try {
+            try (BufferedOutputStream gatheringOutputStream =
+                         new BufferedOutputStream(FileChannel.open(file, StandardOpenOption.WRITE), 4)) {
+                gatheringOutputStream.write("Hel".getBytes());
+                gatheringOutputStream.write("lo world".getBytes());
+                gatheringOutputStream.writeBuffers(ByteBuffer.wrap("!".getBytes()));
+            }
+            assertEquals("Hello world!", Files.readString(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static class RecordingGatheringChannel implements GatheringByteChannel {
+        private final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        private int gatheringWrites;
+        private int singleWrites;
+        private boolean isOpen = true;
+
+        @Override
+        public long write(ByteBuffer[] sources, int offset, int length) throws IOException {
+            gatheringWrites++;
+            long written = 0;
+            for (int i = offset; i < offset + length; i++) {
+                written += copy(sources[i]);
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] sources) throws IOException {
+            return write(sources, 0, sources.length);
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            singleWrites++;
+            return copy(source);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return isOpen;
+        }
+
+        @Override
+        public void close() {
+            isOpen = false;
+        }
+
+        private int copy(ByteBuffer source) throws IOException {
+            int bytes = source.remaining();
+            byte[] array = new byte[bytes];
+            source.get(array);
+            target.write(array, 0, bytes);
+            return bytes;
+        }
+    }
+}
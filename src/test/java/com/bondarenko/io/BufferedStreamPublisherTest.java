@@ -0,0 +1,209 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BufferedStreamPublisherTest {
+    private final byte[] content = "Hello world".getBytes();
+
+    @Test
+    @DisplayName("when Items Requested then Only Requested Chunks Emitted")
+    public void whenItemsRequested_thenOnlyRequestedChunksEmitted() {
+        BufferedStreamPublisher publisher = createPublisher(new java.io.ByteArrayInputStream(content), 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        assertEquals(2, subscriber.chunks.size());
+        assertEquals("Hell", toString(subscriber.chunks.get(0)));
+        assertEquals("o wo", toString(subscriber.chunks.get(1)));
+        assertFalse(subscriber.isCompleted);
+
+        subscriber.subscription.request(1);
+        assertEquals(3, subscriber.chunks.size());
+        assertEquals("rld", toString(subscriber.chunks.get(2)));
+        assertFalse(subscriber.isCompleted);
+
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.isCompleted);
+        assertEquals(3, subscriber.chunks.size());
+    }
+
+    @Test
+    @DisplayName("when Unbounded Demand Requested then All Chunks And Completion Emitted")
+    public void whenUnboundedDemandRequested_thenAllChunksAndCompletionEmitted() {
+        BufferedStreamPublisher publisher = createPublisher(new java.io.ByteArrayInputStream(content), 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(3, subscriber.chunks.size());
+        assertTrue(subscriber.isCompleted);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    @DisplayName("when Subscription Cancelled then Source Closed And Nothing Emitted")
+    public void whenSubscriptionCancelled_thenSourceClosedAndNothingEmitted() {
+        CloseTrackingInputStream source = new CloseTrackingInputStream(content);
+        BufferedStreamPublisher publisher = createPublisher(source, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(5);
+
+        assertEquals(1, subscriber.chunks.size());
+        assertTrue(source.isClosed);
+        assertFalse(subscriber.isCompleted);
+    }
+
+    @Test
+    @DisplayName("when Non Positive Request then Error Emitted")
+    public void whenNonPositiveRequest_thenErrorEmitted() {
+        BufferedStreamPublisher publisher = createPublisher(new java.io.ByteArrayInputStream(content), 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(subscriber.chunks.isEmpty());
+    }
+
+    @Test
+    @DisplayName("when Source Fails then Error Emitted")
+    public void whenSourceFails_thenErrorEmitted() {
+        InputStream failingSource = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("broken source");
+            }
+        };
+        BufferedStreamPublisher publisher = createPublisher(failingSource, 4);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertTrue(subscriber.error instanceof IOException);
+    }
+
+    @Test
+    @DisplayName("when Second Subscriber Subscribes then Error Emitted")
+    public void whenSecondSubscriberSubscribes_thenErrorEmitted() {
+        BufferedStreamPublisher publisher = createPublisher(new java.io.ByteArrayInputStream(content), 4);
+        publisher.subscribe(new RecordingSubscriber());
+        RecordingSubscriber secondSubscriber = new RecordingSubscriber();
+        publisher.subscribe(secondSubscriber);
+
+        assertTrue(secondSubscriber.error instanceof IllegalStateException);
+    }
+
+    @Test
+    @DisplayName("when Read Blocks On Fork Join Pool then Pool Keeps Running Other Tasks")
+    public void whenReadBlocksOnForkJoinPool_thenPoolKeepsRunningOtherTasks() throws Exception {
+        java.util.concurrent.CountDownLatch sourceReady = new java.util.concurrent.CountDownLatch(1);
+        InputStream blockingSource = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                try {
+                    sourceReady.await();
+                } catch (InterruptedException e) {
+                    throw new java.io.InterruptedIOException();
+                }
+                return -1;
+            }
+        };
+        java.util.concurrent.ForkJoinPool forkJoinPool = new java.util.concurrent.ForkJoinPool(1);
+        try {
+            BufferedStreamPublisher publisher = new BufferedStreamPublisher(
+                    new BufferedInputStream(blockingSource, 4), 4, forkJoinPool);
+            java.util.concurrent.CompletableFuture<Void> completion = new java.util.concurrent.CompletableFuture<>();
+            publisher.subscribe(new RecordingSubscriber() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onComplete() {
+                    completion.complete(null);
+                }
+            });
+            forkJoinPool.execute(sourceReady::countDown);
+
+            completion.get(10, java.util.concurrent.TimeUnit.SECONDS);
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("when Chunk Size Is Not Positive then Exception Thrown")
+    public void whenChunkSizeIsNotPositive_thenExceptionThrown() {
+        BufferedInputStream inputStream = new BufferedInputStream(new java.io.ByteArrayInputStream(content));
+        assertThrows(IllegalArgumentException.class, () -> new BufferedStreamPublisher(inputStream, 0, Runnable::run));
+    }
+
+    private BufferedStreamPublisher createPublisher(InputStream source, int chunkSize) {
+        return new BufferedStreamPublisher(new BufferedInputStream(source, chunkSize), chunkSize, Runnable::run);
+    }
+
+    private static String toString(ByteBuffer chunk) {
+        byte[] bytes = new byte[chunk.remaining()];
+        chunk.duplicate().get(bytes);
+        return new String(bytes);
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<ByteBuffer> {
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean isCompleted;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            chunks.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+        }
+    }
+
+    private static class CloseTrackingInputStream extends java.io.ByteArrayInputStream {
+        private boolean isClosed;
+
+        private CloseTrackingInputStream(byte[] content) {
+            super(content);
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BufferedStreamSubscriberTest {
+    private final byte[] content = "Hello world".getBytes();
+
+    @Test
+    @DisplayName("when Subscribed then Prefetch Requested")
+    public void whenSubscribed_thenPrefetchRequested() {
+        BufferedStreamSubscriber subscriber = new BufferedStreamSubscriber(
+                new BufferedOutputStream(new java.io.ByteArrayOutputStream()), 4);
+        RecordingSubscription subscription = new RecordingSubscription();
+        subscriber.onSubscribe(subscription);
+
+        assertEquals(List.of(4L), subscription.requests);
+    }
+
+    @Test
+    @DisplayName("when Half Of Prefetch Written then Demand Replenished")
+    public void whenHalfOfPrefetchWritten_thenDemandReplenished() {
+        BufferedStreamSubscriber subscriber = new BufferedStreamSubscriber(
+                new BufferedOutputStream(new java.io.ByteArrayOutputStream()), 4);
+        RecordingSubscription subscription = new RecordingSubscription();
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(ByteBuffer.wrap(content));
+        assertEquals(List.of(4L), subscription.requests);
+        subscriber.onNext(ByteBuffer.wrap(content));
+        assertEquals(List.of(4L, 2L), subscription.requests);
+    }
+
+    @Test
+    @DisplayName("when Completed then Chunks Written And Target Closed")
+    public void whenCompleted_thenChunksWrittenAndTargetClosed() throws Exception {
+        java.io.ByteArrayOutputStream target = new java.io.ByteArrayOutputStream();
+        BufferedStreamSubscriber subscriber = new BufferedStreamSubscriber(new BufferedOutputStream(target, 4));
+        subscriber.onSubscribe(new RecordingSubscription());
+
+        subscriber.onNext(ByteBuffer.wrap(content, 0, 5));
+        subscriber.onNext(ByteBuffer.allocateDirect(6).put(content, 5, 6).flip());
+        subscriber.onComplete();
+
+        assertNull(subscriber.getCompletion().get());
+        assertArrayEquals(content, target.toByteArray());
+    }
+
+    @Test
+    @DisplayName("when Write Fails then Subscription Cancelled And Completion Failed")
+    public void whenWriteFails_thenSubscriptionCancelledAndCompletionFailed() {
+        OutputStream failingTarget = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("broken target");
+            }
+        };
+        BufferedStreamSubscriber subscriber = new BufferedStreamSubscriber(new BufferedOutputStream(failingTarget, 4));
+        RecordingSubscription subscription = new RecordingSubscription();
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(ByteBuffer.wrap(content));
+
+        assertTrue(subscription.isCancelled);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> subscriber.getCompletion().get());
+        assertTrue(exception.getCause() instanceof IOException);
+    }
+
+    @Test
+    @DisplayName("when Publisher Fails then Completion Failed")
+    public void whenPublisherFails_thenCompletionFailed() {
+        BufferedStreamSubscriber subscriber = new BufferedStreamSubscriber(
+                new BufferedOutputStream(new java.io.ByteArrayOutputStream()));
+        subscriber.onSubscribe(new RecordingSubscription());
+
+        subscriber.onError(new IllegalStateException("broken publisher"));
+
+        assertTrue(subscriber.getCompletion().isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("when Second Subscription Received then Second Subscription Cancelled")
+    public void whenSecondSubscriptionReceived_thenSecondSubscriptionCancelled() {
+        BufferedStreamSubscriber subscriber = new BufferedStreamSubscriber(
+                new BufferedOutputStream(new java.io.ByteArrayOutputStream()));
+        subscriber.onSubscribe(new RecordingSubscription());
+        RecordingSubscription secondSubscription = new RecordingSubscription();
+
+        subscriber.onSubscribe(secondSubscription);
+
+        assertTrue(secondSubscription.isCancelled);
+        assertTrue(secondSubscription.requests.isEmpty());
+    }
+
+    @Test
+    @DisplayName("when Publisher Connected To Subscriber then Stream Copied")
+    public void whenPublisherConnectedToSubscriber_thenStreamCopied() throws Exception {
+        byte[] payload = new byte[100_000];
+        new java.util.Random(42).nextBytes(payload);
+        java.io.ByteArrayOutputStream target = new java.io.ByteArrayOutputStream();
+        BufferedStreamPublisher publisher = new BufferedStreamPublisher(
+                new BufferedInputStream(new java.io.ByteArrayInputStream(payload), 1024));
+        BufferedStreamSubscriber subscriber = new BufferedStreamSubscriber(new BufferedOutputStream(target, 1024), 4);
+
+        publisher.subscribe(subscriber);
+
+        subscriber.getCompletion().get(10, TimeUnit.SECONDS);
+        assertArrayEquals(payload, target.toByteArray());
+    }
+
+    @Test
+    @DisplayName("when Prefetch Is Not Positive then Exception Thrown")
+    public void whenPrefetchIsNotPositive_thenExceptionThrown() {
+        BufferedOutputStream outputStream = new BufferedOutputStream(new java.io.ByteArrayOutputStream());
+        assertThrows(IllegalArgumentException.class, () -> new BufferedStreamSubscriber(outputStream, 0));
+    }
+
+    private static class RecordingSubscription implements Flow.Subscription {
+        private final List<Long> requests = new ArrayList<>();
+        private boolean isCancelled;
+
+        @Override
+        public void request(long n) {
+            requests.add(n);
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+        }
+    }
+}
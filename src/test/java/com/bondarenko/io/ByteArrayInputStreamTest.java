@@ -109,4 +109,66 @@ public class ByteArrayInputStreamTest {
             byteArrayInputStream.read(buffer);
         });
     }
+
+    @Test
+    @DisplayName("read Array Of Bytes In Chunks by ByteArrayInputStream")
+    public void readArrayOfBytesInChunks_byByteArrayInputStream() throws IOException {
+        byte[] array = new byte[4];
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream("Hello world".getBytes());
+
+        assertEquals(3, byteArrayInputStream.read(array, 1, 3));
+        assertEquals("Hel", new String(array, 1, 3));
+        assertEquals(4, byteArrayInputStream.read(array));
+        assertEquals("lo w", new String(array));
+        assertEquals(4, byteArrayInputStream.read(array));
+        assertEquals("orld", new String(array));
+        assertEquals(-1, byteArrayInputStream.read(array));
+    }
+
+    @Test
+    @DisplayName("read Negative Byte As Unsigned Value by ByteArrayInputStream")
+    public void readNegativeByteAsUnsignedValue_byByteArrayInputStream() {
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(new byte[]{-1});
+
+        assertEquals(255, byteArrayInputStream.read());
+        assertEquals(-1, byteArrayInputStream.read());
+    }
+
+    @Test
+    @DisplayName("transfer To And Read All Bytes by ByteArrayInputStream")
+    public void transferToAndReadAllBytes_byByteArrayInputStream() throws IOException {
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream("Hello world".getBytes());
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        assertEquals("Hello", new String(byteArrayInputStream.readNBytes(5)));
+        assertEquals(" wo", new String(byteArrayInputStream.readNBytes(3)));
+        assertEquals(3, byteArrayInputStream.transferTo(byteArrayOutputStream));
+        assertEquals("rld", new String(byteArrayOutputStream.toByteArray()));
+        assertEquals(0, byteArrayInputStream.readAllBytes().length);
+    }
+
+    @Test
+    @DisplayName("read Sub Range View by ByteArrayInputStream")
+    public void readSubRangeView_byByteArrayInputStream() throws IOException {
+        byte[] content = "Hello world".getBytes();
+        ByteArrayInputStream helloInputStream = new ByteArrayInputStream(content, 0, 5);
+        ByteArrayInputStream worldInputStream = new ByteArrayInputStream(content, 6, 5);
+        byte[] array = new byte[8];
+
+        assertEquals('w', worldInputStream.read());
+        assertEquals(5, helloInputStream.read(array));
+        assertEquals("Hello", new String(array, 0, 5));
+        assertEquals(-1, helloInputStream.read());
+        assertEquals("orld", new String(worldInputStream.readAllBytes()));
+        assertEquals(-1, worldInputStream.read(array));
+    }
+
+    @Test
+    @DisplayName("when Sub Range Exceeds Array then IndexOutOfBoundsException Returned")
+    public void whenSubRangeExceedsArray_thenIndexOutOfBoundsException_Returned() {
+        byte[] content = "Hello world".getBytes();
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> new ByteArrayInputStream(content, 6, 6));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> new ByteArrayInputStream(content, -1, 3));
+    }
 }
@@ -86,4 +86,43 @@ public class ByteArrayOutputStreamTest {
             byteArrayOutputStream.write(array, 0, -1);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("write More Bytes Than Initial Capacity by ByteArrayOutputStream")
+    public void writeMoreBytesThanInitialCapacity_byByteArrayOutputStream() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(2);
+        byte[] b = {1, 2, 3, 4, 5};
+        outputStream.write(b);
+        outputStream.write(6);
+        outputStream.write(b, 0, 2);
+
+        String expected = "[1, 2, 3, 4, 5, 6, 1, 2]";
+        String actual = Arrays.toString(outputStream.toByteArray());
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("write To Output Stream by ByteArrayOutputStream")
+    public void writeToOutputStream_byByteArrayOutputStream() throws IOException {
+        byteArrayOutputStream.write(new byte[]{1, 2, 3});
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        byteArrayOutputStream.writeTo(target);
+
+        assertEquals(3, byteArrayOutputStream.size());
+        assertEquals("[1, 2, 3]", Arrays.toString(target.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("to Input Stream Shares Written Bytes by ByteArrayOutputStream")
+    public void toInputStreamSharesWrittenBytes_byByteArrayOutputStream() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(8);
+        byteArrayOutputStream.write("Hello".getBytes());
+
+        ByteArrayInputStream byteArrayInputStream = byteArrayOutputStream.toInputStream();
+        byteArrayOutputStream.write(" world".getBytes());
+
+        assertEquals("Hello", new String(byteArrayInputStream.readAllBytes()));
+        assertEquals("Hello world", new String(byteArrayOutputStream.toInputStream().readAllBytes()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ByteScannerTest {
+
+    @Test
+    @DisplayName("index Of Finds First Match In Every Position")
+    public void indexOfFindsFirstMatchInEveryPosition() {
+        for (int length = 1; length < 40; length++) {
+            for (int position = 0; position < length; position++) {
+                byte[] array = new byte[length];
+                array[position] = ';';
+                if (position + 1 < length) {
+                    array[length - 1] = ';';
+                }
+                assertEquals(position, ByteScanner.indexOf(array, 0, length, (byte) ';'));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("index Of Respects Range Bounds")
+    public void indexOfRespectsRangeBounds() {
+        byte[] array = "a;bcdefghijklmnop;q".getBytes();
+
+        assertEquals(1, ByteScanner.indexOf(array, 0, array.length, (byte) ';'));
+        assertEquals(17, ByteScanner.indexOf(array, 2, array.length, (byte) ';'));
+        assertEquals(-1, ByteScanner.indexOf(array, 2, 17, (byte) ';'));
+    }
+
+    @Test
+    @DisplayName("index Of Handles Negative And Neighbouring Bytes")
+    public void indexOfHandlesNegativeAndNeighbouringBytes() {
+        byte[] array = {1, 0, -1, -128, 127, 0, 0, 1, 0, -2, -1, 3};
+
+        assertEquals(3, ByteScanner.indexOf(array, 0, array.length, (byte) -128));
+        assertEquals(2, ByteScanner.indexOf(array, 0, array.length, (byte) -1));
+        assertEquals(9, ByteScanner.indexOf(array, 0, array.length, (byte) -2));
+        assertEquals(1, ByteScanner.indexOf(array, 0, array.length, (byte) 0));
+        assertEquals(-1, ByteScanner.indexOf(array, 0, array.length, (byte) 2));
+    }
+}
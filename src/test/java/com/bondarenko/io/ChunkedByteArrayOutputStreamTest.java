@@ -0,0 +1,92 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChunkedByteArrayOutputStreamTest {
+    private final ChunkedByteArrayOutputStream chunkedOutputStream = new ChunkedByteArrayOutputStream(4);
+
+    @Test
+    @DisplayName("write Array Of Bytes Across Chunks by ChunkedByteArrayOutputStream")
+    public void writeArrayOfBytesAcrossChunks_byChunkedByteArrayOutputStream() throws IOException {
+        byte[] b = {1, 2, 3, 4, 5, 6};
+        chunkedOutputStream.write(b);
+        chunkedOutputStream.write(7);
+        chunkedOutputStream.write(b, 1, 3);
+
+        String expected = "[1, 2, 3, 4, 5, 6, 7, 2, 3, 4]";
+        String actual = Arrays.toString(chunkedOutputStream.toByteArray());
+
+        assertEquals(expected, actual);
+        assertEquals(10, chunkedOutputStream.size());
+    }
+
+    @Test
+    @DisplayName("write To Output Stream by ChunkedByteArrayOutputStream")
+    public void writeToOutputStream_byChunkedByteArrayOutputStream() throws IOException {
+        chunkedOutputStream.write("Hello world".getBytes());
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        chunkedOutputStream.writeTo(byteArrayOutputStream);
+
+        assertEquals("Hello world", new String(byteArrayOutputStream.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("to ByteBuffers returns Read Only Views Of Chunks")
+    public void toByteBuffers_returnsReadOnlyViewsOfChunks() throws IOException {
+        chunkedOutputStream.write("Hello world".getBytes());
+        ByteBuffer[] byteBuffers = chunkedOutputStream.toByteBuffers();
+
+        assertEquals(3, byteBuffers.length);
+        assertEquals(4, byteBuffers[0].remaining());
+        assertEquals(3, byteBuffers[2].remaining());
+        assertTrue(byteBuffers[0].isReadOnly());
+        StringBuilder content = new StringBuilder();
+        for (ByteBuffer byteBuffer : byteBuffers) {
+            while (byteBuffer.hasRemaining()) {
+                content.append((char) byteBuffer.get());
+            }
+        }
+        assertEquals("Hello world", content.toString());
+    }
+
+    @Test
+    @DisplayName("when Nothing Written then Empty Results Returned")
+    public void whenNothingWritten_thenEmptyResultsReturned() {
+        assertEquals(0, chunkedOutputStream.toByteArray().length);
+        assertEquals(0, chunkedOutputStream.toByteBuffers().length);
+        assertEquals(0, chunkedOutputStream.size());
+    }
+
+    @Test
+    @DisplayName("when Chunk Capacity Is Zero then IllegalArgumentException Returned")
+    public void whenChunkCapacityIsZero_thenIllegalArgumentException_Returned() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ChunkedByteArrayOutputStream(0));
+    }
+
+    @Test
+    @DisplayName("when Write To Closed Stream then IOException Returned")
+    public void whenWriteToClosedStream_thenIOException_Returned() {
+        Assertions.assertThrows(IOException.class, () -> {
+            chunkedOutputStream.close();
+            chunkedOutputStream.write(1);
+        });
+    }
+
+    @Test
+    @DisplayName("write Array Of Bytes by ChunkedByteArrayOutputStream with Parameter Length Less Than Zero")
+    public void writeArrayOfBytes_byChunkedByteArrayOutputStream_withParameterLengthLessThanZero() {
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> {
+            byte[] array = new byte[5];
+            chunkedOutputStream.write(array, 0, -1);
+        });
+    }
+}
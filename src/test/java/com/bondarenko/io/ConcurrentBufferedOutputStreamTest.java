@@ -0,0 +1,136 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class ConcurrentBufferedOutputStreamTest {
+
+    @Test
+    @DisplayName("write Bytes By ConcurrentBufferedOutputStream and Flush")
+    public void writeBytesByConcurrentBufferedOutputStream_andFlush() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ConcurrentBufferedOutputStream concurrentOutputStream = new ConcurrentBufferedOutputStream(byteArrayOutputStream, 4, 1);
+        concurrentOutputStream.write('H');
+        concurrentOutputStream.write("ello world".getBytes());
+        concurrentOutputStream.flush();
+
+        assertEquals("Hello world", new String(byteArrayOutputStream.toByteArray()));
+        concurrentOutputStream.close();
+    }
+
+    @Test
+    @DisplayName("write Records From Many Threads Keeps Each Write Atomic")
+    public void writeRecordsFromManyThreads_keepsEachWriteAtomic() throws Exception {
+        int threads = 8;
+        int recordsPerThread = 2000;
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ConcurrentBufferedOutputStream concurrentOutputStream = new ConcurrentBufferedOutputStream(byteArrayOutputStream, 64, 4);
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            byte[] record = ("thread-" + t + ";").getBytes();
+            byte[] largeRecord = ("large-" + t + "-" + "x".repeat(100) + ";").getBytes();
+            Callable<Void> writer = () -> {
+                for (int i = 0; i < recordsPerThread; i++) {
+                    concurrentOutputStream.write(i % 100 == 0 ? largeRecord : record);
+                }
+                return null;
+            };
+            futures.add(executorService.submit(writer));
+        }
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        concurrentOutputStream.close();
+
+        String[] records = new String(byteArrayOutputStream.toByteArray()).split(";");
+        assertEquals(threads * recordsPerThread, records.length);
+        for (String record : records) {
+            Assertions.assertTrue(record.matches("thread-\\d|large-\\d-x{100}"), record);
+        }
+    }
+
+    @Test
+    @DisplayName("when ConcurrentBufferedOutputStream is closed than IOException Returned")
+    public void whenConcurrentBufferedOutputStreamIsClosed_thanIOExceptionReturned() throws IOException {
+        ConcurrentBufferedOutputStream concurrentOutputStream = new ConcurrentBufferedOutputStream(new ByteArrayOutputStream());
+        concurrentOutputStream.close();
+        concurrentOutputStream.close();
+
+        Assertions.assertThrows(IOException.class, () -> concurrentOutputStream.write(1));
+    }
+
+    @Test
+    @DisplayName("when Flush Races Close then Flush Returns Or Fails Instead Of Hanging")
+    public void whenFlushRacesClose_thenFlushReturnsOrFailsInsteadOfHanging() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                for (int i = 0; i < 500; i++) {
+                    ConcurrentBufferedOutputStream concurrentOutputStream =
+                            new ConcurrentBufferedOutputStream(new ByteArrayOutputStream(), 16, 2);
+                    concurrentOutputStream.write("Hello world".getBytes());
+                    CountDownLatch start = new CountDownLatch(1);
+                    Future<?> flushes = executorService.submit(() -> {
+                        start.countDown();
+                        try {
+                            while (true) {
+                                concurrentOutputStream.flush();
+                            }
+                        } catch (IOException e) {
+                            return null;
+                        }
+                    });
+                    start.await();
+                    concurrentOutputStream.close();
+
+                    flushes.get();
+                }
+            });
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("when Flush Marker Queued After Close then IOException Returned")
+    public void whenFlushMarkerQueuedAfterClose_thenIOException_Returned() {
+        BackgroundFlusher backgroundFlusher =
+                new BackgroundFlusher(new ByteArrayOutputStream(), 4, 4, DaemonThreads.factory("flusher-test"));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            backgroundFlusher.close();
+            Assertions.assertThrows(IOException.class, backgroundFlusher::flush);
+        });
+    }
+
+    @Test
+    @DisplayName("when Stripe Count Is Zero then IllegalArgumentException Returned")
+    public void whenStripeCountIsZero_thenIllegalArgumentException_Returned() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ConcurrentBufferedOutputStream(new ByteArrayOutputStream(), 16, 0));
+    }
+
+    @Test
+    @DisplayName("write Array Of Bytes by ConcurrentBufferedOutputStream with Parameter OffSet Less Than Zero")
+    public void writeArrayOfBytes_byConcurrentBufferedOutputStream_withParameterOffSetLessThanZero() throws IOException {
+        try (ConcurrentBufferedOutputStream concurrentOutputStream = new ConcurrentBufferedOutputStream(new ByteArrayOutputStream())) {
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> concurrentOutputStream.write(new byte[5], -1, 2));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DirectIoInputStreamTest {
+    private Path file;
+
+    @BeforeEach
+    public void before() throws IOException {
+        file = Files.createTempFile("direct-io-input", ".bin");
+        Assumptions.assumeTrue(DirectIoOutputStream.isSupported(file.getParent()), "O_DIRECT is not supported here");
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("when Bytes Read One By One then File Content Returned")
+    public void whenBytesReadOneByOne_thenFileContentReturned() throws IOException {
+        byte[] content = "Hello world".getBytes();
+        Files.write(file, content);
+        try (DirectIoInputStream inputStream = new DirectIoInputStream(file, 1)) {
+            for (byte expected : content) {
+                assertEquals(expected, inputStream.read());
+            }
+            assertEquals(-1, inputStream.read());
+        }
+    }
+
+    @Test
+    @DisplayName("when File Spans Many Buffers then File Content Returned")
+    public void whenFileSpansManyBuffers_thenFileContentReturned() throws IOException {
+        byte[] payload = new byte[100_000];
+        new Random(42).nextBytes(payload);
+        Files.write(file, payload);
+        try (DirectIoInputStream inputStream = new DirectIoInputStream(file, 8192)) {
+            assertArrayEquals(payload, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("when File Length Is Block Multiple then End Of Stream Returned")
+    public void whenFileLengthIsBlockMultiple_thenEndOfStreamReturned() throws IOException {
+        try (DirectIoInputStream inputStream = new DirectIoInputStream(file, 1)) {
+            byte[] payload = new byte[inputStream.getBlockSize() * 2];
+            new Random(42).nextBytes(payload);
+            Files.write(file, payload);
+
+            assertArrayEquals(payload, inputStream.readAllBytes());
+            assertEquals(-1, inputStream.read());
+        }
+    }
+
+    @Test
+    @DisplayName("when File Written By DirectIoOutputStream then Same Bytes Read")
+    public void whenFileWrittenByDirectIoOutputStream_thenSameBytesRead() throws IOException {
+        byte[] payload = new byte[50_001];
+        new Random(42).nextBytes(payload);
+        try (DirectIoOutputStream outputStream = new DirectIoOutputStream(file, 4096)) {
+            outputStream.write(payload);
+        }
+        try (DirectIoInputStream inputStream = new DirectIoInputStream(file, 4096)) {
+            assertArrayEquals(payload, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("when Stream Closed then Exception Thrown")
+    public void whenStreamClosed_thenExceptionThrown() throws IOException {
+        DirectIoInputStream inputStream = new DirectIoInputStream(file);
+        inputStream.close();
+
+        assertThrows(IOException.class, inputStream::read);
+    }
+
+    @Test
+    @DisplayName("when Offset And Length Are Out Of Bounds then Exception Thrown")
+    public void whenOffsetAndLengthAreOutOfBounds_thenExceptionThrown() throws IOException {
+        try (DirectIoInputStream inputStream = new DirectIoInputStream(file)) {
+            assertThrows(IndexOutOfBoundsException.class, () -> inputStream.read(new byte[4], 2, 4));
+            assertThrows(NullPointerException.class, () -> inputStream.read(null, 0, 1));
+        }
+    }
+}
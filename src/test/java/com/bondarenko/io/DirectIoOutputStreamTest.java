@@ -0,0 +1,96 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DirectIoOutputStreamTest {
+    private Path file;
+
+    @BeforeEach
+    public void before() throws IOException {
+        file = Files.createTempFile("direct-io-output", ".bin");
+        Assumptions.assumeTrue(DirectIoOutputStream.isSupported(file.getParent()), "O_DIRECT is not supported here");
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("when Unaligned Tail Written then File Truncated To Written Length")
+    public void whenUnalignedTailWritten_thenFileTruncatedToWrittenLength() throws IOException {
+        byte[] content = "Hello world".getBytes();
+        try (DirectIoOutputStream outputStream = new DirectIoOutputStream(file, 1)) {
+            outputStream.write(content[0]);
+            outputStream.write(content, 1, content.length - 1);
+        }
+
+        assertArrayEquals(content, Files.readAllBytes(file));
+    }
+
+    @Test
+    @DisplayName("when Many Buffers Written then File Content Returned")
+    public void whenManyBuffersWritten_thenFileContentReturned() throws IOException {
+        byte[] payload = new byte[100_000];
+        new Random(42).nextBytes(payload);
+        try (DirectIoOutputStream outputStream = new DirectIoOutputStream(file, 8192)) {
+            for (int offset = 0; offset < payload.length; offset += 1000) {
+                outputStream.write(payload, offset, Math.min(1000, payload.length - offset));
+            }
+        }
+
+        assertArrayEquals(payload, Files.readAllBytes(file));
+    }
+
+    @Test
+    @DisplayName("when Flushed then Only Whole Blocks Written")
+    public void whenFlushed_thenOnlyWholeBlocksWritten() throws IOException {
+        try (DirectIoOutputStream outputStream = new DirectIoOutputStream(file, 1 << 16)) {
+            int blockSize = outputStream.getBlockSize();
+            byte[] payload = new byte[blockSize + 10];
+            new Random(42).nextBytes(payload);
+            outputStream.write(payload);
+            outputStream.flush();
+
+            assertEquals(blockSize, Files.size(file));
+            outputStream.write(payload, 0, 5);
+            outputStream.close();
+
+            assertEquals(payload.length + 5, Files.size(file));
+        }
+    }
+
+    @Test
+    @DisplayName("when Length Is Block Multiple then No Padding Left")
+    public void whenLengthIsBlockMultiple_thenNoPaddingLeft() throws IOException {
+        try (DirectIoOutputStream outputStream = new DirectIoOutputStream(file, 1)) {
+            outputStream.write(new byte[outputStream.getBlockSize() * 3]);
+            outputStream.close();
+
+            assertEquals(outputStream.getBlockSize() * 3L, Files.size(file));
+        }
+    }
+
+    @Test
+    @DisplayName("when Stream Closed then Exception Thrown")
+    public void whenStreamClosed_thenExceptionThrown() throws IOException {
+        DirectIoOutputStream outputStream = new DirectIoOutputStream(file);
+        outputStream.close();
+
+        assertThrows(IOException.class, () -> outputStream.write(1));
+        assertThrows(IOException.class, outputStream::flush);
+    }
+
+    @Test
+    @DisplayName("when Buffer Size Is Not Positive then Exception Thrown")
+    public void whenBufferSizeIsNotPositive_thenExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new DirectIoOutputStream(file, 0));
+    }
+}
@@ -0,0 +1,55 @@
+package com.bondarenko.io;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JfrStreamMetricsListenerTest {
+
+    @Test
+    @DisplayName("when Recording Is Enabled then Fill Flush And Grow Events Committed")
+    public void whenRecordingIsEnabled_thenFillFlushAndGrowEventsCommitted() throws IOException {
+        Path recordingFile = Files.createTempFile("stream-metrics", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.bondarenko.io.BufferFill");
+            recording.enable("com.bondarenko.io.BufferFlush");
+            recording.enable("com.bondarenko.io.BufferGrow");
+            recording.start();
+            JfrStreamMetricsListener listener = new JfrStreamMetricsListener();
+            ByteArrayOutputStream target = new ByteArrayOutputStream(4, listener);
+            try (BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(target, 8, listener)) {
+                bufferedOutputStream.write("Hello".getBytes());
+                bufferedOutputStream.write(" world".getBytes());
+            }
+            BufferedInputStream bufferedInputStream =
+                    new BufferedInputStream(new ByteArrayInputStream(target.toByteArray()), 16, listener);
+            bufferedInputStream.read();
+            recording.stop();
+            recording.dump(recordingFile);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+            assertEquals(1, count(events, "com.bondarenko.io.BufferFill"));
+            assertEquals(2, count(events, "com.bondarenko.io.BufferFlush"));
+            assertEquals(2, count(events, "com.bondarenko.io.BufferGrow"));
+            RecordedEvent fillEvent = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("com.bondarenko.io.BufferFill"))
+                    .findFirst().orElseThrow();
+            assertEquals(11, fillEvent.getInt("bytes"));
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+
+    private long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).count();
+    }
+}
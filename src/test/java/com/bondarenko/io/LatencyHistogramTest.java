@@ -0,0 +1,50 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("record Latencies Into Power Of Two Buckets")
+    public void recordLatenciesIntoPowerOfTwoBuckets() {
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        latencyHistogram.record(0);
+        latencyHistogram.record(1);
+        latencyHistogram.record(5);
+        latencyHistogram.record(7);
+        latencyHistogram.record(8);
+        latencyHistogram.record(-3);
+
+        assertEquals(6, latencyHistogram.getCount());
+        assertEquals(2, latencyHistogram.getBucketCount(0));
+        assertEquals(1, latencyHistogram.getBucketCount(1));
+        assertEquals(2, latencyHistogram.getBucketCount(3));
+        assertEquals(1, latencyHistogram.getBucketCount(4));
+    }
+
+    @Test
+    @DisplayName("get Percentile Returns Upper Bound Of Bucket")
+    public void getPercentileReturnsUpperBoundOfBucket() {
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            latencyHistogram.record(100);
+        }
+        latencyHistogram.record(1_000_000);
+
+        assertEquals(127, latencyHistogram.getPercentile(50));
+        assertEquals(127, latencyHistogram.getPercentile(99));
+        assertEquals((1 << 20) - 1, latencyHistogram.getPercentile(100));
+        assertEquals(0, new LatencyHistogram().getPercentile(99));
+    }
+
+    @Test
+    @DisplayName("when Percentile Is Out Of Range then IllegalArgumentException Returned")
+    public void whenPercentileIsOutOfRange_thenIllegalArgumentExceptionReturned() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentile(101));
+    }
+}
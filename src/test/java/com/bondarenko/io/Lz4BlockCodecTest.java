@@ -0,0 +1,154 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class Lz4BlockCodecTest {
+
+    @Test
+    @DisplayName("compress And Decompress Repetitive Data")
+    public void compressAndDecompressRepetitiveData() throws IOException {
+        byte[] expected = "abcabcabcabcabcabcabcabc the quick brown fox, the quick brown fox; ".repeat(500).getBytes();
+
+        byte[] actual = roundTrip(expected);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("compress Repetitive Data Into Fewer Bytes")
+    public void compressRepetitiveDataIntoFewerBytes() {
+        byte[] source = new byte[10_000];
+        byte[] compressed = new byte[Lz4BlockCodec.maxCompressedLength(source.length)];
+
+        int compressedLength = Lz4BlockCodec.compress(source, 0, source.length, compressed, 0);
+
+        assertTrue(compressedLength < 100);
+    }
+
+    @Test
+    @DisplayName("compress And Decompress Every Short Length")
+    public void compressAndDecompressEveryShortLength() throws IOException {
+        Random random = new Random(3);
+        for (int length = 0; length < 300; length++) {
+            byte[] expected = new byte[length];
+            for (int i = 0; i < length; i++) {
+                expected[i] = (byte) ('a' + random.nextInt(3));
+            }
+            assertArrayEquals(expected, roundTrip(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("compress Random Data Within Max Compressed Length")
+    public void compressRandomDataWithinMaxCompressedLength() throws IOException {
+        byte[] expected = new byte[100_000];
+        new Random(5).nextBytes(expected);
+
+        assertArrayEquals(expected, roundTrip(expected));
+    }
+
+    @Test
+    @DisplayName("when Offset Points Before Output then IOException Returned")
+    public void whenOffsetPointsBeforeOutput_thenIOExceptionReturned() {
+        byte[] malformed = {0x10, 'a', 0x05, 0x00};
+        byte[] target = new byte[100];
+
+        Assertions.assertThrows(IOException.class, () ->
+                Lz4BlockCodec.decompress(malformed, 0, malformed.length, target, 0, target.length));
+    }
+
+    @Test
+    @DisplayName("when Literals Exceed Output then IOException Returned")
+    public void whenLiteralsExceedOutput_thenIOExceptionReturned() {
+        byte[] malformed = {0x50, 'a', 'b', 'c', 'd', 'e'};
+        byte[] target = new byte[3];
+
+        Assertions.assertThrows(IOException.class, () ->
+                Lz4BlockCodec.decompress(malformed, 0, malformed.length, target, 0, target.length));
+    }
+
+    @Test
+    @DisplayName("when Literal Run Length Overflows then IOException Returned")
+    public void whenLiteralRunLengthOverflows_thenIOExceptionReturned() {
+        byte[] malformed = new byte[9_000_000];
+        java.util.Arrays.fill(malformed, (byte) 0xFF);
+        malformed[0] = (byte) 0xF0;
+        byte[] target = new byte[100];
+
+        IOException exception = Assertions.assertThrows(IOException.class, () ->
+                Lz4BlockCodec.decompress(malformed, 0, malformed.length, target, 0, target.length));
+        assertTrue(exception.getMessage().contains("corrupt block"));
+    }
+
+    @Test
+    @DisplayName("when Match Run Length Exceeds Output then IOException Returned")
+    public void whenMatchRunLengthExceedsOutput_thenIOExceptionReturned() {
+        byte[] malformed = {0x1F, 'a', 0x01, 0x00, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x00};
+        byte[] target = new byte[300];
+
+        Assertions.assertThrows(IOException.class, () ->
+                Lz4BlockCodec.decompress(malformed, 0, malformed.length, target, 0, target.length));
+    }
+
+    @Test
+    @DisplayName("when Run Length Is Truncated then IOException Returned")
+    public void whenRunLengthIsTruncated_thenIOExceptionReturned() {
+        byte[] malformed = {(byte) 0xF0, (byte) 0xFF, (byte) 0xFF};
+        byte[] target = new byte[1000];
+
+        Assertions.assertThrows(IOException.class, () ->
+                Lz4BlockCodec.decompress(malformed, 0, malformed.length, target, 0, target.length));
+    }
+
+    @Test
+    @DisplayName("when Block Is Random Garbage then Only IOException Returned")
+    public void whenBlockIsRandomGarbage_thenOnlyIOExceptionReturned() {
+        java.util.Random random = new java.util.Random(42);
+        byte[] target = new byte[256];
+        for (int i = 0; i < 10_000; i++) {
+            byte[] garbage = new byte[1 + random.nextInt(64)];
+            random.nextBytes(garbage);
+            try {
+                int length = Lz4BlockCodec.decompress(garbage, 0, garbage.length, target, 0, target.length);
+                assertTrue(length >= 0 && length <= target.length);
+            } catch (IOException expected) {
+                // a corrupt block has to surface as a checked exception, never as a runtime one
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("when Output Does Not Fit Limit then Minus One Returned")
+    public void whenOutputDoesNotFitLimit_thenMinusOneReturned() throws IOException {
+        byte[] random = new byte[4096];
+        new Random(3).nextBytes(random);
+        assertEquals(-1, Lz4BlockCodec.compress(random, 0, random.length, new byte[4096], 0, random.length - 1));
+
+        byte[] source = "abcd".repeat(1000).getBytes();
+        byte[] compressed = new byte[source.length];
+        int compressedLength = Lz4BlockCodec.compress(source, 0, source.length, compressed, 0, source.length);
+        assertTrue(compressedLength > 0 && compressedLength < 100);
+        assertEquals(-1, Lz4BlockCodec.compress(source, 0, source.length, compressed, 0, compressedLength - 1));
+        byte[] decompressed = new byte[source.length];
+        assertEquals(source.length, Lz4BlockCodec.decompress(compressed, 0, compressedLength, decompressed, 0, decompressed.length));
+        assertArrayEquals(source, decompressed);
+    }
+
+    private byte[] roundTrip(byte[] source) throws IOException {
+        byte[] compressed = new byte[Lz4BlockCodec.maxCompressedLength(source.length) + 3];
+        int compressedLength = Lz4BlockCodec.compress(source, 0, source.length, compressed, 3);
+        assertTrue(compressedLength <= Lz4BlockCodec.maxCompressedLength(source.length));
+        byte[] decompressed = new byte[source.length];
+        assertEquals(source.length, Lz4BlockCodec.decompress(compressed, 3, compressedLength, decompressed, 0, decompressed.length));
+        return decompressed;
+    }
+}
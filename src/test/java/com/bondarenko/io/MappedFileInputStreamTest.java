@@ -0,0 +1,104 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedFileInputStreamTest {
+    private final String content = "Hello world";
+    private Path file;
+    private MappedFileInputStream mappedFileInputStream;
+
+    @BeforeEach
+    public void before() throws IOException {
+        file = Files.createTempFile("mapped-file-input", ".txt");
+        Files.write(file, content.getBytes());
+        mappedFileInputStream = new MappedFileInputStream(file, 4);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        mappedFileInputStream.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("read Bytes Across Windows By MappedFileInputStream")
+    public void readBytesAcrossWindows_byMappedFileInputStream() throws IOException {
+        for (int i = 0; i < content.length(); i++) {
+            assertEquals(content.charAt(i), mappedFileInputStream.read());
+        }
+        assertEquals(-1, mappedFileInputStream.read());
+    }
+
+    @Test
+    @DisplayName("read Array Of Bytes Across Windows By MappedFileInputStream")
+    public void readArrayOfBytesAcrossWindows_byMappedFileInputStream() throws IOException {
+        byte[] array = new byte[20];
+
+        assertEquals(3, mappedFileInputStream.read(array, 0, 3));
+        assertEquals(8, mappedFileInputStream.read(array, 3, 17));
+        assertEquals(content, new String(array, 0, content.length()));
+        assertEquals(-1, mappedFileInputStream.read(array, 0, 1));
+    }
+
+    @Test
+    @DisplayName("read From Position Does Not Move Stream Position")
+    public void readFromPosition_doesNotMoveStreamPosition() throws IOException {
+        byte[] array = new byte[5];
+
+        assertEquals(5, mappedFileInputStream.read(6, array, 0, 5));
+        assertEquals("world", new String(array));
+        assertEquals(0, mappedFileInputStream.position());
+        assertEquals('H', mappedFileInputStream.read());
+    }
+
+    @Test
+    @DisplayName("skip Moves Position And Stops At End Of File")
+    public void skipMovesPosition_andStopsAtEndOfFile() throws IOException {
+        assertEquals(6, mappedFileInputStream.skip(6));
+        assertEquals('w', mappedFileInputStream.read());
+        assertEquals(4, mappedFileInputStream.skip(100));
+        assertEquals(0, mappedFileInputStream.available());
+        assertEquals(-1, mappedFileInputStream.read());
+    }
+
+    @Test
+    @DisplayName("slice Returns Read Only View Of Range")
+    public void sliceReturnsReadOnlyViewOfRange() throws IOException {
+        mappedFileInputStream.read();
+        ByteBuffer insideWindow = mappedFileInputStream.slice(1, 3);
+        ByteBuffer acrossWindows = mappedFileInputStream.slice(2, 7);
+
+        assertTrue(insideWindow.isReadOnly());
+        assertEquals("ell", toString(insideWindow));
+        assertEquals("llo wor", toString(acrossWindows));
+    }
+
+    @Test
+    @DisplayName("when Slice Exceeds File Length then IndexOutOfBoundsException Returned")
+    public void whenSliceExceedsFileLength_thenIndexOutOfBoundsException_Returned() {
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mappedFileInputStream.slice(8, 5));
+    }
+
+    @Test
+    @DisplayName("when MappedFileInputStream is closed than IOException Returned")
+    public void whenMappedFileInputStreamIsClosed_thanIOExceptionReturned() {
+        Assertions.assertThrows(IOException.class, () -> {
+            mappedFileInputStream.close();
+            mappedFileInputStream.read();
+        });
+    }
+
+    private String toString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes);
+    }
+}
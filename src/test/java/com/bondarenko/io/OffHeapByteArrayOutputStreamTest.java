@@ -0,0 +1,127 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapByteArrayOutputStreamTest {
+    private final byte[] content = "Hello world".getBytes();
+
+    @Test
+    @DisplayName("write Bytes Into Direct Chunks By OffHeapByteArrayOutputStream")
+    public void writeBytesIntoDirectChunks_byOffHeapByteArrayOutputStream() throws IOException {
+        try (OffHeapByteArrayOutputStream offHeapOutputStream = new OffHeapByteArrayOutputStream(4)) {
+            offHeapOutputStream.write(content[0]);
+            offHeapOutputStream.write(content, 1, content.length - 1);
+
+            ByteBuffer[] byteBuffers = offHeapOutputStream.toByteBuffers();
+            assertEquals(content.length, offHeapOutputStream.size());
+            assertEquals(3, byteBuffers.length);
+            assertTrue(byteBuffers[0].isDirect());
+            assertTrue(byteBuffers[0].isReadOnly());
+            assertEquals(3, byteBuffers[2].remaining());
+        }
+    }
+
+    @Test
+    @DisplayName("write To Gathering File Channel By OffHeapByteArrayOutputStream")
+    public void writeToGatheringFileChannel_byOffHeapByteArrayOutputStream() throws IOException {
+        byte[] expected = new byte[300_000];
+        new Random(17).nextBytes(expected);
+        Path file = Files.createTempFile("off-heap-output", ".bin");
+        try (OffHeapByteArrayOutputStream offHeapOutputStream = new OffHeapByteArrayOutputStream(1000)) {
+            offHeapOutputStream.write(expected);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                assertEquals(expected.length, offHeapOutputStream.writeTo(channel));
+            }
+            assertArrayEquals(expected, Files.readAllBytes(file));
+            try (FileOutputStream fileOutputStream = new FileOutputStream(file.toFile())) {
+                assertEquals(expected.length, offHeapOutputStream.writeTo(fileOutputStream));
+            }
+            assertArrayEquals(expected, Files.readAllBytes(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("write To Heap Output Stream By OffHeapByteArrayOutputStream")
+    public void writeToHeapOutputStream_byOffHeapByteArrayOutputStream() throws IOException {
+        try (OffHeapByteArrayOutputStream offHeapOutputStream = new OffHeapByteArrayOutputStream(4, new DirectBufferPool())) {
+            offHeapOutputStream.write(content);
+            ByteArrayOutputStream target = new ByteArrayOutputStream();
+            ByteArrayOutputStream channelTarget = new ByteArrayOutputStream();
+
+            assertEquals(content.length, offHeapOutputStream.writeTo(target));
+            assertEquals(content.length, offHeapOutputStream.writeTo(Channels.newChannel(channelTarget)));
+
+            assertArrayEquals(content, target.toByteArray());
+            assertArrayEquals(content, channelTarget.toByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("when Pool Is Given then Chunks Released On Close")
+    public void whenPoolIsGiven_thenChunksReleasedOnClose() throws IOException {
+        DirectBufferPool directBufferPool = new DirectBufferPool();
+        OffHeapByteArrayOutputStream offHeapOutputStream = new OffHeapByteArrayOutputStream(16, directBufferPool);
+        offHeapOutputStream.write(new byte[40]);
+
+        offHeapOutputStream.close();
+
+        assertEquals(48, directBufferPool.getRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("when Pool Is Not Given then Chunks Released To Shared Pool On Close")
+    public void whenPoolIsNotGiven_thenChunksReleasedToSharedPoolOnClose() throws IOException {
+        OffHeapByteArrayOutputStream offHeapOutputStream = new OffHeapByteArrayOutputStream(4096);
+        offHeapOutputStream.write(new byte[5000]);
+        long retainedBytes = OffHeapByteArrayOutputStream.SHARED_BUFFER_POOL.getRetainedBytes();
+
+        offHeapOutputStream.close();
+
+        assertEquals(retainedBytes + 8192, OffHeapByteArrayOutputStream.SHARED_BUFFER_POOL.getRetainedBytes());
+        Assertions.assertThrows(NullPointerException.class, () -> new OffHeapByteArrayOutputStream(16, null));
+    }
+
+    @Test
+    @DisplayName("when Stream Is Not Closed then Leak Detected")
+    public void whenStreamIsNotClosed_thenLeakDetected() throws Exception {
+        long leakedStreams = OffHeapByteArrayOutputStream.getLeakedStreamCount();
+        OffHeapByteArrayOutputStream closedOutputStream = new OffHeapByteArrayOutputStream(16);
+        closedOutputStream.close();
+        new OffHeapByteArrayOutputStream(16).write(content);
+
+        for (int i = 0; i < 50 && OffHeapByteArrayOutputStream.getLeakedStreamCount() == leakedStreams; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertEquals(leakedStreams + 1, OffHeapByteArrayOutputStream.getLeakedStreamCount());
+    }
+
+    @Test
+    @DisplayName("when OffHeapByteArrayOutputStream is closed than IOException Returned")
+    public void whenOffHeapByteArrayOutputStreamIsClosed_thenIOExceptionReturned() throws IOException {
+        OffHeapByteArrayOutputStream offHeapOutputStream = new OffHeapByteArrayOutputStream();
+        offHeapOutputStream.close();
+        offHeapOutputStream.close();
+
+        Assertions.assertThrows(IOException.class, () -> offHeapOutputStream.write(1));
+    }
+}
@@ -0,0 +1,150 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PartitionedFileReaderTest {
+    private static final int LINE_COUNT = 1000;
+    private byte[] content;
+    private Path file;
+
+    @BeforeEach
+    public void before() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            builder.append("line number ").append(i).append('\n');
+        }
+        content = builder.toString().getBytes();
+        file = Files.createTempFile("partitioned-file", ".txt");
+        Files.write(file, content);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("when Partitions Concatenated then Whole File Returned")
+    public void whenPartitionsConcatenated_thenWholeFileReturned() throws IOException {
+        try (PartitionedFileReader reader = new PartitionedFileReader(file, (byte) '\n', 100, 16)) {
+            List<FilePartition> partitions = reader.partitions().collect(Collectors.toList());
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            long expectedStart = 0;
+            for (FilePartition partition : partitions) {
+                assertEquals(expectedStart, partition.getStart());
+                try (InputStream inputStream = partition.openStream()) {
+                    outputStream.write(inputStream.readAllBytes());
+                }
+                expectedStart = partition.getEnd();
+            }
+
+            assertTrue(partitions.size() > 1);
+            assertEquals(content.length, expectedStart);
+            assertArrayEquals(content, outputStream.toByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("when File Partitioned then Every Partition Ends With Delimiter")
+    public void whenFilePartitioned_thenEveryPartitionEndsWithDelimiter() throws IOException {
+        try (PartitionedFileReader reader = new PartitionedFileReader(file, (byte) '\n', 100, 16)) {
+            reader.partitions().forEach(partition -> {
+                assertTrue(partition.getLength() > 0);
+                assertEquals('\n', content[(int) partition.getEnd() - 1]);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("when Lines Counted In Parallel then Line Count Returned")
+    public void whenLinesCountedInParallel_thenLineCountReturned() throws IOException {
+        try (PartitionedFileReader reader = new PartitionedFileReader(file, (byte) '\n', 256, 64)) {
+            long lines = reader.partitions().mapToLong(partition -> {
+                long count = 0;
+                try (InputStream inputStream = partition.openStream()) {
+                    int value;
+                    while ((value = inputStream.read()) != -1) {
+                        if (value == '\n') {
+                            count++;
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+                return count;
+            }).sum();
+
+            assertEquals(LINE_COUNT, lines);
+        }
+    }
+
+    @Test
+    @DisplayName("when Spliterator Split then Prefix Ends On Record Boundary")
+    public void whenSpliteratorSplit_thenPrefixEndsOnRecordBoundary() throws IOException {
+        try (PartitionedFileReader reader = new PartitionedFileReader(file, (byte) '\n', 100, 16)) {
+            Spliterator<FilePartition> suffix = reader.spliterator();
+            Spliterator<FilePartition> prefix = suffix.trySplit();
+            assertNotNull(prefix);
+
+            long[] prefixEnd = new long[1];
+            prefix.forEachRemaining(partition -> prefixEnd[0] = partition.getEnd());
+            assertTrue(suffix.tryAdvance(partition -> assertEquals(prefixEnd[0], partition.getStart())));
+            assertEquals('\n', content[(int) prefixEnd[0] - 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("when Record Is Longer Than Partition Size then Record Kept Whole")
+    public void whenRecordIsLongerThanPartitionSize_thenRecordKeptWhole() throws IOException {
+        Files.write(file, "a very long record\nshort\n".getBytes());
+        try (PartitionedFileReader reader = new PartitionedFileReader(file, (byte) '\n', 4, 16)) {
+            List<FilePartition> partitions = reader.partitions().collect(Collectors.toList());
+
+            assertEquals(2, partitions.size());
+            try (InputStream inputStream = partitions.get(0).openStream()) {
+                assertEquals("a very long record\n", new String(inputStream.readAllBytes()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("when File Does Not End With Delimiter then Last Partition Holds Tail")
+    public void whenFileDoesNotEndWithDelimiter_thenLastPartitionHoldsTail() throws IOException {
+        Files.write(file, "first\nsecond\ntail".getBytes());
+        try (PartitionedFileReader reader = new PartitionedFileReader(file, (byte) '\n', 8, 16)) {
+            List<FilePartition> partitions = reader.partitions().collect(Collectors.toList());
+            FilePartition last = partitions.get(partitions.size() - 1);
+
+            assertEquals(reader.length(), last.getEnd());
+            try (InputStream inputStream = last.openStream()) {
+                assertTrue(new String(inputStream.readAllBytes()).endsWith("tail"));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("when File Is Empty then No Partitions Returned")
+    public void whenFileIsEmpty_thenNoPartitionsReturned() throws IOException {
+        Files.write(file, new byte[0]);
+        try (PartitionedFileReader reader = new PartitionedFileReader(file, (byte) '\n')) {
+            assertEquals(0, reader.partitions().count());
+        }
+    }
+
+    @Test
+    @DisplayName("when Partition Size Is Not Positive then Exception Thrown")
+    public void whenPartitionSizeIsNotPositive_thenExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedFileReader(file, (byte) '\n', 0, 16));
+    }
+}
@@ -0,0 +1,138 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReadAheadInputStreamTest {
+    private final String content = "Hello world";
+
+    @Test
+    @DisplayName("read Bytes By ReadAheadInputStream")
+    public void readBytesByReadAheadInputStream() throws IOException {
+        try (ReadAheadInputStream readAheadInputStream =
+                     new ReadAheadInputStream(new ByteArrayInputStream(content.getBytes()), 4, 2)) {
+            for (int i = 0; i < content.length(); i++) {
+                assertEquals(content.charAt(i), readAheadInputStream.read());
+            }
+            assertEquals(-1, readAheadInputStream.read());
+            assertEquals(-1, readAheadInputStream.read());
+        }
+    }
+
+    @Test
+    @DisplayName("read Large Array Of Bytes Across Prefetched Buffers")
+    public void readLargeArrayOfBytes_acrossPrefetchedBuffers() throws IOException {
+        byte[] expected = new byte[100_000];
+        new Random(1).nextBytes(expected);
+        byte[] actual = new byte[expected.length];
+        try (ReadAheadInputStream readAheadInputStream =
+                     new ReadAheadInputStream(new ByteArrayInputStream(expected), 1000, 3)) {
+            int total = 0;
+            int read;
+            while ((read = readAheadInputStream.read(actual, total, Math.min(777, actual.length - total))) > 0) {
+                total += read;
+            }
+            assertEquals(expected.length, total);
+            assertEquals(-1, readAheadInputStream.read(actual, 0, 1));
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("when Source Throws IOException then It Is Propagated After Buffered Bytes")
+    public void whenSourceThrowsIOException_thenItIsPropagatedAfterBufferedBytes() throws IOException {
+        InputStream failingInputStream = new InputStream() {
+            private int count;
+
+            @Override
+            public int read() throws IOException {
+                if (count == 3) {
+                    throw new IOException("source failure");
+                }
+                return count++;
+            }
+
+            @Override
+            public int read(byte[] array, int off, int length) throws IOException {
+                int value = read();
+                array[off] = (byte) value;
+                return 1;
+            }
+        };
+        try (ReadAheadInputStream readAheadInputStream = new ReadAheadInputStream(failingInputStream, 8, 1)) {
+            assertEquals(0, readAheadInputStream.read());
+            assertEquals(1, readAheadInputStream.read());
+            assertEquals(2, readAheadInputStream.read());
+            IOException exception = Assertions.assertThrows(IOException.class, readAheadInputStream::read);
+            assertEquals("source failure", exception.getMessage());
+            Assertions.assertThrows(IOException.class, readAheadInputStream::read);
+        }
+    }
+
+    @Test
+    @DisplayName("when Later Chunk Holds IOException then Copied Bytes Returned And Exception Thrown Next")
+    public void whenLaterChunkHoldsIOException_thenCopiedBytesReturnedAndExceptionThrownNext() throws Exception {
+        InputStream failingInputStream = new InputStream() {
+            private int count;
+
+            @Override
+            public int read() throws IOException {
+                if (count == 4) {
+                    throw new IOException("boom");
+                }
+                return count++;
+            }
+
+            @Override
+            public int read(byte[] array, int off, int length) throws IOException {
+                array[off] = (byte) read();
+                return 1;
+            }
+        };
+        Thread[] readerThread = new Thread[1];
+        try (ReadAheadInputStream readAheadInputStream = new ReadAheadInputStream(failingInputStream, 1, 4,
+                runnable -> readerThread[0] = new Thread(runnable))) {
+            readerThread[0].join(10_000);
+            byte[] array = new byte[10];
+
+            assertEquals(4, readAheadInputStream.read(array, 0, array.length));
+            Assertions.assertArrayEquals(new byte[]{0, 1, 2, 3}, java.util.Arrays.copyOf(array, 4));
+            IOException exception = Assertions.assertThrows(IOException.class,
+                    () -> readAheadInputStream.read(array, 0, array.length));
+            assertEquals("boom", exception.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("when ReadAheadInputStream is closed than IOException Returned")
+    public void whenReadAheadInputStreamIsClosed_thanIOExceptionReturned() {
+        Assertions.assertThrows(IOException.class, () -> {
+            ReadAheadInputStream readAheadInputStream = new ReadAheadInputStream(new ByteArrayInputStream(content.getBytes()));
+            readAheadInputStream.close();
+            readAheadInputStream.read();
+        });
+    }
+
+    @Test
+    @DisplayName("when Prefetch Depth Is Zero then IllegalArgumentException Returned")
+    public void whenPrefetchDepthIsZero_thenIllegalArgumentException_Returned() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ReadAheadInputStream(new ByteArrayInputStream(content.getBytes()), 8, 0));
+    }
+
+    @Test
+    @DisplayName("read Array Of Bytes By ReadAheadInputStream with Parameter Off Less Than Zero")
+    public void readArrayOfBytes_byReadAheadInputStream_withParameterOffLessThanZero() throws IOException {
+        try (ReadAheadInputStream readAheadInputStream = new ReadAheadInputStream(new ByteArrayInputStream(content.getBytes()))) {
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> readAheadInputStream.read(new byte[5], -1, 2));
+        }
+    }
+}
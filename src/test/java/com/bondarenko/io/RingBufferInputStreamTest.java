@@ -0,0 +1,138 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferInputStreamTest {
+    private final byte[] content = "Hello world".getBytes();
+
+    @Test
+    @DisplayName("read Bytes Written Into Pipe")
+    public void readBytesWrittenIntoPipe() throws IOException {
+        RingBufferInputStream inputStream = new RingBufferInputStream(16);
+        RingBufferOutputStream outputStream = new RingBufferOutputStream(inputStream);
+        outputStream.write(content[0]);
+        outputStream.write(content, 1, content.length - 1);
+        outputStream.close();
+        byte[] array = new byte[content.length];
+
+        assertEquals(content.length, inputStream.available());
+        assertEquals('H', inputStream.read());
+        assertEquals(content.length - 1, inputStream.read(array, 1, array.length - 1));
+        array[0] = 'H';
+        assertArrayEquals(content, array);
+        assertEquals(-1, inputStream.read());
+        assertEquals(-1, inputStream.read(array));
+        assertEquals(0, inputStream.read(array, 0, 0));
+    }
+
+    @Test
+    @DisplayName("transfer Large Payload Between Threads Through Small Ring")
+    public void transferLargePayloadBetweenThreadsThroughSmallRing() throws Exception {
+        byte[] expected = new byte[2_000_000];
+        new Random(19).nextBytes(expected);
+        RingBufferInputStream inputStream = new RingBufferInputStream(1000);
+        RingBufferOutputStream outputStream = new RingBufferOutputStream(inputStream);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try (outputStream) {
+                Random random = new Random(23);
+                int offset = 0;
+                while (offset < expected.length) {
+                    int length = Math.min(random.nextInt(3000), expected.length - offset);
+                    if (length == 0) {
+                        outputStream.write(expected[offset++]);
+                    } else {
+                        outputStream.write(expected, offset, length);
+                        offset += length;
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        byte[] array = new byte[777];
+        int read;
+        while ((read = inputStream.read(array)) != -1) {
+            actual.write(array, 0, read);
+        }
+
+        writer.get(10, TimeUnit.SECONDS);
+        assertArrayEquals(expected, actual.toByteArray());
+    }
+
+    @Test
+    @DisplayName("when Reader Is Closed then Blocked Writer Gets IOException")
+    public void whenReaderIsClosed_thenBlockedWriterGetsIOException() throws Exception {
+        RingBufferInputStream inputStream = new RingBufferInputStream(8);
+        RingBufferOutputStream outputStream = new RingBufferOutputStream(inputStream);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try {
+                outputStream.write(new byte[100]);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(50);
+
+        inputStream.close();
+
+        Exception exception = Assertions.assertThrows(Exception.class, () -> writer.get(10, TimeUnit.SECONDS));
+        assertTrue(exception.getCause().getCause() instanceof IOException);
+        Assertions.assertThrows(IOException.class, () -> outputStream.write(1));
+        Assertions.assertThrows(IOException.class, inputStream::read);
+    }
+
+    @Test
+    @DisplayName("when Waiting Reader Is Interrupted then InterruptedIOException Returned")
+    public void whenWaitingReaderIsInterrupted_thenInterruptedIOExceptionReturned() throws Exception {
+        RingBufferInputStream inputStream = new RingBufferInputStream(8);
+        new RingBufferOutputStream(inputStream);
+        AtomicReference<Exception> readException = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            started.countDown();
+            try {
+                inputStream.read();
+            } catch (IOException e) {
+                readException.set(e);
+            }
+        });
+        reader.start();
+        started.await();
+        Thread.sleep(50);
+
+        reader.interrupt();
+        reader.join(10_000);
+
+        assertTrue(readException.get() instanceof InterruptedIOException);
+    }
+
+    @Test
+    @DisplayName("when Input Stream Is Already Connected then IllegalStateException Returned")
+    public void whenInputStreamIsAlreadyConnected_thenIllegalStateExceptionReturned() {
+        RingBufferInputStream inputStream = new RingBufferInputStream();
+        new RingBufferOutputStream(inputStream);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> new RingBufferOutputStream(inputStream));
+    }
+
+    @Test
+    @DisplayName("when Capacity Is Zero then IllegalArgumentException Returned")
+    public void whenCapacityIsZero_thenIllegalArgumentExceptionReturned() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RingBufferInputStream(0));
+    }
+}
@@ -0,0 +1,46 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RingBufferOutputStreamTest {
+
+    @Test
+    @DisplayName("when Ring Is Full then Writer Continues After Reader Frees Space")
+    public void whenRingIsFull_thenWriterContinuesAfterReaderFreesSpace() throws Exception {
+        RingBufferInputStream inputStream = new RingBufferInputStream(4);
+        RingBufferOutputStream outputStream = new RingBufferOutputStream(inputStream);
+        outputStream.write("Hell".getBytes());
+        Thread writer = new Thread(() -> {
+            try (outputStream) {
+                outputStream.write('o');
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        writer.start();
+        Thread.sleep(50);
+
+        assertEquals(4, inputStream.available());
+        assertEquals("Hell", new String(inputStream.readNBytes(4)));
+        writer.join(10_000);
+        assertEquals('o', inputStream.read());
+        assertEquals(-1, inputStream.read());
+    }
+
+    @Test
+    @DisplayName("when RingBufferOutputStream is closed than IOException Returned")
+    public void whenRingBufferOutputStreamIsClosed_thenIOExceptionReturned() {
+        RingBufferOutputStream outputStream = new RingBufferOutputStream(new RingBufferInputStream());
+        outputStream.close();
+        outputStream.close();
+
+        Assertions.assertThrows(IOException.class, () -> outputStream.write(1));
+        Assertions.assertThrows(IOException.class, () -> outputStream.write(new byte[2]));
+    }
+}
@@ -0,0 +1,111 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpillingByteArrayOutputStreamTest {
+    private final byte[] content = "Hello world".getBytes();
+
+    @Test
+    @DisplayName("when Size Stays Under Threshold then Bytes Kept In Memory")
+    public void whenSizeStaysUnderThreshold_thenBytesKeptInMemory() throws IOException {
+        try (SpillingByteArrayOutputStream spillingOutputStream = new SpillingByteArrayOutputStream(16)) {
+            spillingOutputStream.write(content[0]);
+            spillingOutputStream.write(content, 1, content.length - 1);
+
+            assertTrue(spillingOutputStream.isInMemory());
+            assertNull(spillingOutputStream.getFile());
+            assertEquals(content.length, spillingOutputStream.size());
+            try (InputStream inputStream = spillingOutputStream.toInputStream()) {
+                assertArrayEquals(content, inputStream.readAllBytes());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("when Threshold Is Exceeded then Bytes Spilled To Temp File")
+    public void whenThresholdIsExceeded_thenBytesSpilledToTempFile() throws IOException {
+        byte[] expected = new byte[100_000];
+        new Random(13).nextBytes(expected);
+        Path file;
+        try (SpillingByteArrayOutputStream spillingOutputStream = new SpillingByteArrayOutputStream(1000)) {
+            for (int offset = 0; offset < expected.length; offset += 333) {
+                spillingOutputStream.write(expected, offset, Math.min(333, expected.length - offset));
+            }
+
+            assertFalse(spillingOutputStream.isInMemory());
+            file = spillingOutputStream.getFile();
+            assertTrue(Files.exists(file));
+            assertEquals(expected.length, spillingOutputStream.size());
+            try (InputStream inputStream = spillingOutputStream.toInputStream()) {
+                assertArrayEquals(expected, inputStream.readAllBytes());
+            }
+            try (InputStream inputStream = spillingOutputStream.toMappedInputStream()) {
+                assertArrayEquals(expected, inputStream.readAllBytes());
+            }
+        }
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    @DisplayName("write To Output Stream From Memory And From Temp File")
+    public void writeToOutputStreamFromMemoryAndFromTempFile() throws IOException {
+        try (SpillingByteArrayOutputStream spillingOutputStream = new SpillingByteArrayOutputStream(5)) {
+            spillingOutputStream.write(content, 0, 5);
+            ByteArrayOutputStream memoryTarget = new ByteArrayOutputStream();
+
+            assertEquals(5, spillingOutputStream.writeTo(memoryTarget));
+            assertEquals("Hello", new String(memoryTarget.toByteArray()));
+
+            spillingOutputStream.write(content, 5, content.length - 5);
+            ByteArrayOutputStream fileTarget = new ByteArrayOutputStream();
+
+            assertEquals(content.length, spillingOutputStream.writeTo(fileTarget));
+            assertArrayEquals(content, fileTarget.toByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("when Directory Is Given then Temp File Created In It")
+    public void whenDirectoryIsGiven_thenTempFileCreatedInIt() throws IOException {
+        Path directory = Files.createTempDirectory("spill-directory");
+        try (SpillingByteArrayOutputStream spillingOutputStream = new SpillingByteArrayOutputStream(0, directory)) {
+            spillingOutputStream.write(content);
+
+            assertEquals(directory, spillingOutputStream.getFile().getParent());
+        } finally {
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("when SpillingByteArrayOutputStream is closed than IOException Returned")
+    public void whenSpillingByteArrayOutputStreamIsClosed_thenIOExceptionReturned() throws IOException {
+        SpillingByteArrayOutputStream spillingOutputStream = new SpillingByteArrayOutputStream(4);
+        spillingOutputStream.write(content);
+        spillingOutputStream.close();
+        spillingOutputStream.close();
+
+        Assertions.assertThrows(IOException.class, () -> spillingOutputStream.write(1));
+        Assertions.assertThrows(IOException.class, spillingOutputStream::toInputStream);
+    }
+
+    @Test
+    @DisplayName("when Spill Threshold Is Negative then IllegalArgumentException Returned")
+    public void whenSpillThresholdIsNegative_thenIllegalArgumentExceptionReturned() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SpillingByteArrayOutputStream(-1));
+    }
+}
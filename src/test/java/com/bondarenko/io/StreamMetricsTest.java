@@ -0,0 +1,176 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StreamMetricsTest {
+    private final byte[] content = "Hello world, hello metrics".getBytes();
+
+    @Test
+    @DisplayName("when BufferedInputStream Reads then Fills Hits And Bypasses Counted")
+    public void whenBufferedInputStreamReads_thenFillsHitsAndBypassesCounted() throws IOException {
+        StreamMetrics streamMetrics = new StreamMetrics();
+        BufferedInputStream bufferedInputStream =
+                new BufferedInputStream(new ByteArrayInputStream(content), 8, streamMetrics);
+
+        bufferedInputStream.read();
+        bufferedInputStream.read();
+        bufferedInputStream.read(new byte[6]);
+        bufferedInputStream.read(new byte[10]);
+        while (bufferedInputStream.read() != -1) {
+        }
+
+        assertEquals(content.length, streamMetrics.getBytesRead());
+        assertEquals(1, streamMetrics.getBypassReads());
+        assertEquals(10, streamMetrics.getBypassBytes());
+        assertEquals(content.length - 10, streamMetrics.getBytesFilled());
+        assertEquals(streamMetrics.getFillLatency().getCount(), streamMetrics.getUnderlyingReads() - 1);
+        assertEquals(9, streamMetrics.getBufferHits());
+        assertEquals(3, streamMetrics.getBufferMisses());
+        assertEquals(0.75, streamMetrics.getHitRatio());
+    }
+
+    @Test
+    @DisplayName("when BufferedOutputStream Writes then Flushes And Bypasses Counted")
+    public void whenBufferedOutputStreamWrites_thenFlushesAndBypassesCounted() throws IOException {
+        StreamMetrics streamMetrics = new StreamMetrics();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(target, 8, streamMetrics)) {
+            bufferedOutputStream.write(content, 0, 4);
+            bufferedOutputStream.write(content, 4, 12);
+            bufferedOutputStream.write(content[16]);
+            bufferedOutputStream.write(content, 17, content.length - 17);
+        }
+
+        assertEquals(content.length, streamMetrics.getBytesWritten());
+        assertEquals(2, streamMetrics.getBypassWrites());
+        assertEquals(12 + 9, streamMetrics.getBypassBytes());
+        assertEquals(2, streamMetrics.getFlushLatency().getCount());
+        assertEquals(4, streamMetrics.getUnderlyingWrites());
+        assertEquals(4 + 1, streamMetrics.getBytesFlushed());
+        assertEquals(content.length, target.size());
+    }
+
+    @Test
+    @DisplayName("when Typed Values And Lines Read then Consumed Bytes Counted")
+    public void whenTypedValuesAndLinesRead_thenConsumedBytesCounted() throws IOException {
+        StreamMetrics streamMetrics = new StreamMetrics();
+        java.io.ByteArrayOutputStream source = new java.io.ByteArrayOutputStream();
+        try (BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(source, 64)) {
+            bufferedOutputStream.writeInt(42);
+            bufferedOutputStream.writeLong(43);
+            bufferedOutputStream.writeShortLE((short) 44);
+            bufferedOutputStream.writeVarLong(300);
+            bufferedOutputStream.writeUtf8("line\nuntil;rest");
+        }
+        byte[] bytes = source.toByteArray();
+        try (BufferedInputStream bufferedInputStream =
+                     new BufferedInputStream(new ByteArrayInputStream(bytes), 64, streamMetrics)) {
+            bufferedInputStream.readInt();
+            bufferedInputStream.readLong();
+            bufferedInputStream.readShortLE();
+            bufferedInputStream.readVarLong();
+            bufferedInputStream.readLine(new ByteArrayOutputStream());
+            bufferedInputStream.readUntil((byte) ';', new ByteArrayOutputStream());
+        }
+
+        assertEquals(bytes.length - 4, streamMetrics.getBytesRead());
+        assertEquals(6, streamMetrics.getBufferHits() + streamMetrics.getBufferMisses());
+    }
+
+    @Test
+    @DisplayName("when Typed Value Read Byte By Byte then Counted Per Byte")
+    public void whenTypedValueReadByteByByte_thenCountedPerByte() throws IOException {
+        StreamMetrics streamMetrics = new StreamMetrics();
+        try (BufferedInputStream bufferedInputStream =
+                     new BufferedInputStream(new ByteArrayInputStream(content), 4, streamMetrics)) {
+            bufferedInputStream.readLong();
+        }
+
+        assertEquals(Long.BYTES, streamMetrics.getBytesRead());
+    }
+
+    @Test
+    @DisplayName("when Stream Transferred then Buffered And Filled Bytes Counted")
+    public void whenStreamTransferred_thenBufferedAndFilledBytesCounted() throws IOException {
+        StreamMetrics streamMetrics = new StreamMetrics();
+        try (BufferedInputStream bufferedInputStream =
+                     new BufferedInputStream(new ByteArrayInputStream(content), 8, streamMetrics)) {
+            bufferedInputStream.read();
+            bufferedInputStream.transferTo(new ByteArrayOutputStream());
+        }
+
+        assertEquals(content.length, streamMetrics.getBytesRead());
+        assertEquals(content.length, streamMetrics.getBytesFilled());
+    }
+
+    @Test
+    @DisplayName("when Typed Values And Text Written then Produced Bytes Counted")
+    public void whenTypedValuesAndTextWritten_thenProducedBytesCounted() throws IOException {
+        StreamMetrics streamMetrics = new StreamMetrics();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(target, 8, streamMetrics)) {
+            bufferedOutputStream.writeInt(1);
+            bufferedOutputStream.writeLong(2);
+            bufferedOutputStream.writeUtf8("hello");
+            bufferedOutputStream.writeVarLong(300);
+            bufferedOutputStream.writeShortLE((short) 3);
+            bufferedOutputStream.writeUtf8("\u00e9\ud83d\ude00");
+        }
+
+        assertEquals(target.size(), streamMetrics.getBytesWritten());
+        assertEquals(4 + 8 + 5 + 2 + 2 + 2 + 4, streamMetrics.getBytesWritten());
+        assertEquals(target.size(), streamMetrics.getBytesFlushed());
+    }
+
+    @Test
+    @DisplayName("when Typed Value Written Byte By Byte then Counted Once")
+    public void whenTypedValueWrittenByteByByte_thenCountedOnce() throws IOException {
+        StreamMetrics streamMetrics = new StreamMetrics();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(target, 2, streamMetrics)) {
+            bufferedOutputStream.writeLong(42);
+            bufferedOutputStream.writeVarLong(Long.MAX_VALUE);
+        }
+
+        assertEquals(Long.BYTES + 9, streamMetrics.getBytesWritten());
+        assertEquals(target.size(), streamMetrics.getBytesWritten());
+    }
+
+    @Test
+    @DisplayName("when ByteArrayInputStream Reads then Every Read Is A Hit")
+    public void whenByteArrayInputStreamReads_thenEveryReadIsAHit() throws IOException {
+        StreamMetrics streamMetrics = new StreamMetrics();
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(content, streamMetrics);
+
+        byteArrayInputStream.read();
+        byteArrayInputStream.read(new byte[5]);
+        byteArrayInputStream.readNBytes(4);
+        byteArrayInputStream.transferTo(new ByteArrayOutputStream());
+
+        assertEquals(content.length, streamMetrics.getBytesRead());
+        assertEquals(4, streamMetrics.getBufferHits());
+        assertEquals(1.0, streamMetrics.getHitRatio());
+        assertEquals(0, streamMetrics.getUnderlyingReads());
+    }
+
+    @Test
+    @DisplayName("when ByteArrayOutputStream Grows then Grow Events And Recopied Bytes Counted")
+    public void whenByteArrayOutputStreamGrows_thenGrowEventsAndRecopiedBytesCounted() throws IOException {
+        StreamMetrics streamMetrics = new StreamMetrics();
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(4, streamMetrics);
+
+        byteArrayOutputStream.write(content, 0, 3);
+        byteArrayOutputStream.write(content, 3, 3);
+        byteArrayOutputStream.write(content[6]);
+        byteArrayOutputStream.write(content, 7, 10);
+
+        assertEquals(17, streamMetrics.getBytesWritten());
+        assertEquals(2, streamMetrics.getGrowCount());
+        assertEquals(3 + 7, streamMetrics.getBytesRecopied());
+    }
+}
@@ -0,0 +1,236 @@
+package com.bondarenko.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WriteBehindOutputStreamTest {
+
+    @Test
+    @DisplayName("write Bytes By WriteBehindOutputStream and Flush")
+    public void writeBytesByWriteBehindOutputStream_andFlush() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        WriteBehindOutputStream writeBehindOutputStream = new WriteBehindOutputStream(byteArrayOutputStream);
+        writeBehindOutputStream.write('H');
+        writeBehindOutputStream.write("ello world".getBytes());
+        writeBehindOutputStream.flush();
+
+        assertEquals("Hello world", new String(byteArrayOutputStream.toByteArray()));
+        writeBehindOutputStream.close();
+    }
+
+    @Test
+    @DisplayName("write Large Array Of Bytes Hands Queued Buffers To Target As They Are")
+    public void writeLargeArrayOfBytes_handsQueuedBuffersToTargetAsTheyAre() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> writeSizes = new ArrayList<>();
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        OutputStream slowOutputStream = new OutputStream() {
+            @Override
+            public void write(int b) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void write(byte[] array, int off, int length) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                writeSizes.add(length);
+                byteArrayOutputStream.write(array, off, length);
+            }
+        };
+        byte[] expected = new byte[1000];
+        new Random(1).nextBytes(expected);
+
+        WriteBehindOutputStream writeBehindOutputStream =
+                new WriteBehindOutputStream(slowOutputStream, 10, 200, BackpressurePolicy.BLOCK);
+        writeBehindOutputStream.write(expected);
+        release.countDown();
+        writeBehindOutputStream.close();
+
+        assertArrayEquals(expected, byteArrayOutputStream.toByteArray());
+        assertEquals(100, writeSizes.size());
+        assertTrue(writeSizes.stream().allMatch(size -> size == 10), "expected whole buffers but was " + writeSizes);
+    }
+
+    @Test
+    @DisplayName("when Queue Is Full with Fail Policy then IOException Returned")
+    public void whenQueueIsFull_withFailPolicy_thenIOException_Returned() throws IOException {
+        CountDownLatch release = new CountDownLatch(1);
+        OutputStream blockedOutputStream = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] array, int off, int length) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        WriteBehindOutputStream writeBehindOutputStream =
+                new WriteBehindOutputStream(blockedOutputStream, 1, 1, BackpressurePolicy.FAIL);
+
+        Assertions.assertThrows(IOException.class, () -> {
+            for (int i = 0; i < 10; i++) {
+                writeBehindOutputStream.write(i);
+            }
+        });
+        release.countDown();
+        writeBehindOutputStream.close();
+    }
+
+    @Test
+    @DisplayName("when Target Fails then IOException Returned On Flush")
+    public void whenTargetFails_thenIOExceptionReturnedOnFlush() throws IOException {
+        OutputStream failingOutputStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("target failure");
+            }
+
+            @Override
+            public void write(byte[] array, int off, int length) throws IOException {
+                throw new IOException("target failure");
+            }
+        };
+        WriteBehindOutputStream writeBehindOutputStream = new WriteBehindOutputStream(failingOutputStream);
+        writeBehindOutputStream.write(1);
+
+        IOException exception = Assertions.assertThrows(IOException.class, writeBehindOutputStream::flush);
+        assertEquals("target failure", exception.getCause().getMessage());
+        Assertions.assertThrows(IOException.class, writeBehindOutputStream::close);
+    }
+
+    @Test
+    @DisplayName("when WriteBehindOutputStream is closed than IOException Returned")
+    public void whenWriteBehindOutputStreamIsClosed_thanIOExceptionReturned() throws IOException {
+        WriteBehindOutputStream writeBehindOutputStream = new WriteBehindOutputStream(new ByteArrayOutputStream());
+        writeBehindOutputStream.close();
+
+        Assertions.assertThrows(IOException.class, () -> writeBehindOutputStream.write(1));
+    }
+
+    @Test
+    @DisplayName("write Array Of Bytes by WriteBehindOutputStream with Parameter Length Less Than Zero")
+    public void writeArrayOfBytes_byWriteBehindOutputStream_withParameterLengthLessThanZero() throws IOException {
+        try (WriteBehindOutputStream writeBehindOutputStream = new WriteBehindOutputStream(new ByteArrayOutputStream())) {
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> writeBehindOutputStream.write(new byte[5], 0, -1));
+        }
+    }
+
+    @Test
+    @DisplayName("write Bytes To File With Gathering Writes by WriteBehindOutputStream and Flush")
+    public void writeBytesToFileWithGatheringWrites_byWriteBehindOutputStream_andFlush() throws IOException {
+        Path path = Files.createTempFile("write-behind", ".txt");
+        try (WriteBehindOutputStream writeBehindOutputStream =
+                     new WriteBehindOutputStream(new FileOutputStream(path.toFile()))) {
+            byte[] expected = new byte[100_000];
+            new Random(3).nextBytes(expected);
+            writeBehindOutputStream.write(expected, 0, 50_000);
+            writeBehindOutputStream.write(expected[50_000]);
+            writeBehindOutputStream.write(expected, 50_001, 49_999);
+            writeBehindOutputStream.flush();
+
+            assertArrayEquals(expected, Files.readAllBytes(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    @DisplayName("when Channel Stream Already Buffers Bytes then They Reach The File First")
+    public void whenChannelStreamAlreadyBuffersBytes_thenTheyReachTheFileFirst() throws IOException {
+        Path path = Files.createTempFile("write-behind", ".txt");
+        try (BufferedChannelOutputStream channelOutputStream =
+                     new BufferedChannelOutputStream(FileChannel.open(path, StandardOpenOption.WRITE), 64)) {
+            channelOutputStream.write("Hello".getBytes());
+            WriteBehindOutputStream writeBehindOutputStream = new WriteBehindOutputStream(channelOutputStream, 4, 8,
+                    BackpressurePolicy.BLOCK);
+            writeBehindOutputStream.write(" world".getBytes());
+            writeBehindOutputStream.close();
+
+            assertEquals("Hello world", Files.readString(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    @DisplayName("when Flusher Thread Is Interrupted then IOException Returned On Flush And Close")
+    public void whenFlusherThreadIsInterrupted_thenIOException_ReturnedOnFlushAndClose() throws Exception {
+        List<Thread> threads = new ArrayList<>();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            threads.add(thread);
+            return thread;
+        };
+        WriteBehindOutputStream writeBehindOutputStream = new WriteBehindOutputStream(new ByteArrayOutputStream(),
+                5, 2, BackpressurePolicy.BLOCK, threadFactory);
+        Thread flusher = threads.get(0);
+        flusher.interrupt();
+        flusher.join(5000);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            Assertions.assertThrows(IOException.class, () -> writeBehindOutputStream.write("Hello world".getBytes()));
+            Assertions.assertThrows(IOException.class, writeBehindOutputStream::flush);
+            Assertions.assertThrows(IOException.class, writeBehindOutputStream::close);
+        });
+    }
+
+    @Test
+    @DisplayName("when Target Throws Runtime Exception then IOException Returned Instead Of Hanging")
+    public void whenTargetThrowsRuntimeException_thenIOException_ReturnedInsteadOfHanging() {
+        OutputStream brokenOutputStream = new OutputStream() {
+            @Override
+            public void write(int b) {
+                throw new IllegalStateException("broken target");
+            }
+
+            @Override
+            public void write(byte[] array, int off, int length) {
+                throw new IllegalStateException("broken target");
+            }
+        };
+        WriteBehindOutputStream writeBehindOutputStream =
+                new WriteBehindOutputStream(brokenOutputStream, 4, 2, BackpressurePolicy.BLOCK);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            IOException exception = Assertions.assertThrows(IOException.class, () -> {
+                for (int i = 0; i < 100; i++) {
+                    writeBehindOutputStream.write("Hello world".getBytes());
+                    writeBehindOutputStream.flush();
+                }
+            });
+            assertTrue(exception.getCause().getCause() instanceof IllegalStateException, exception.toString());
+            Assertions.assertThrows(IOException.class, writeBehindOutputStream::flush);
+            Assertions.assertThrows(IOException.class, writeBehindOutputStream::close);
+        });
+    }
+}